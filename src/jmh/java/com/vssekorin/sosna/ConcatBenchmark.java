@@ -0,0 +1,62 @@
+package com.vssekorin.sosna;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcatBenchmark {
+
+    @Param({"1000", "20000"})
+    int size;
+
+    List<String> fragments;
+    List<List<Integer>> lists;
+
+    @Setup
+    public void setup() {
+        final ListBuilder<String> values = new ListBuilder<>();
+        final ListBuilder<List<Integer>> chunks = new ListBuilder<>();
+        for (int i = 0; i < size; i++) {
+            values.add("<td>" + i + "</td>");
+            chunks.add(List.of(i, i + 1, i + 2));
+        }
+        fragments = values.build();
+        lists = chunks.build();
+    }
+
+    @Benchmark
+    public String foldStrings() {
+        return fragments.fold(Monoid.Str.concat);
+    }
+
+    @Benchmark
+    public String foldStringsByPlus() {
+        return fragments.foldLeft("", (x, y) -> x + y);
+    }
+
+    @Benchmark
+    public Object foldLists() {
+        return lists.fold(Monoid.Lst.concat());
+    }
+
+    @Benchmark
+    public Object foldListsByAppendAll() {
+        return lists.foldLeft(List.<Integer>nil(), List::appendAll);
+    }
+}
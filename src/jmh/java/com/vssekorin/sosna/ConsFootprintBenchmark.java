@@ -0,0 +1,46 @@
+package com.vssekorin.sosna;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConsFootprintBenchmark {
+
+    @Param({"1000"})
+    int size;
+
+    @Benchmark
+    public Object prependNodes() {
+        List<Object> result = List.nil();
+        for (int i = 0; i < size; i++) {
+            result = new Cons<>(this, result);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int sizeOfNodes() {
+        List<Object> result = List.nil();
+        int sum = 0;
+        for (int i = 0; i < size; i++) {
+            result = new Cons<>(this, result);
+            sum += result.size();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,72 @@
+package com.vssekorin.sosna;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashMapBenchmark {
+
+    @Param({"1000", "50000"})
+    int size;
+
+    int key;
+
+    HashMap<Integer, Integer> map;
+    Map<Integer, Integer> javaMap;
+
+    @Setup
+    public void setup() {
+        key = size / 2;
+        final java.util.HashMap<Integer, Integer> values = new java.util.HashMap<>();
+        for (int i = 0; i < size; i++) {
+            values.put(i, i);
+        }
+        javaMap = Collections.unmodifiableMap(values);
+        map = HashMap.ofAll(values);
+    }
+
+    @Benchmark
+    public Object putPersistent() {
+        return map.put(key, -1);
+    }
+
+    @Benchmark
+    public Object putCopyOnWrite() {
+        final java.util.HashMap<Integer, Integer> copy = new java.util.HashMap<>(javaMap);
+        copy.put(key, -1);
+        return Collections.unmodifiableMap(copy);
+    }
+
+    @Benchmark
+    public Object removePersistent() {
+        return map.remove(key);
+    }
+
+    @Benchmark
+    public Object getPersistent() {
+        return map.getOrNull(key);
+    }
+
+    @Benchmark
+    public Object getJava() {
+        return javaMap.get(key);
+    }
+}
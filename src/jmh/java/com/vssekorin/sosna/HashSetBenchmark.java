@@ -0,0 +1,68 @@
+package com.vssekorin.sosna;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashSetBenchmark {
+
+    @Param({"100", "10000"})
+    int size;
+
+    List<Integer> list;
+    List<Integer> ids;
+    List<Integer> duplicated;
+
+    @Setup
+    public void setup() {
+        final ListBuilder<Integer> values = new ListBuilder<>();
+        final ListBuilder<Integer> half = new ListBuilder<>();
+        final ListBuilder<Integer> repeated = new ListBuilder<>();
+        for (int i = 0; i < size; i++) {
+            values.add(i);
+            repeated.add(i % (size / 4));
+            if (i % 2 == 0) {
+                half.add(i);
+            }
+        }
+        list = values.build();
+        ids = half.build();
+        duplicated = repeated.build();
+    }
+
+    @Benchmark
+    public boolean containsAll() {
+        return list.containsAll(ids);
+    }
+
+    @Benchmark
+    public boolean containsAllLinear() {
+        for (Integer id : ids) {
+            if (!list.contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public Object distinct() {
+        return duplicated.distinct();
+    }
+}
@@ -0,0 +1,132 @@
+package com.vssekorin.sosna;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyBenchmark {
+
+    private static final int CHAIN = 1000;
+
+    Lazy<Integer> lazy;
+    SynchronizedLazy<Integer> synchronizedLazy;
+
+    @Setup
+    public void setup() {
+        lazy = Lazy.of(() -> 42);
+        synchronizedLazy = new SynchronizedLazy<>(() -> 42);
+        lazy.get();
+        synchronizedLazy.get();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer get_01() {
+        return lazy.get();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Integer get_08() {
+        return lazy.get();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Integer get_64() {
+        return lazy.get();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer synchronizedGet_01() {
+        return synchronizedLazy.get();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Integer synchronizedGet_08() {
+        return synchronizedLazy.get();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Integer synchronizedGet_64() {
+        return synchronizedLazy.get();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Lazy<Integer> freshGet_01() {
+        final Lazy<Integer> fresh = Lazy.of(() -> 42);
+        fresh.get();
+        return fresh;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public SynchronizedLazy<Integer> synchronizedFreshGet_01() {
+        final SynchronizedLazy<Integer> fresh = new SynchronizedLazy<>(() -> 42);
+        fresh.get();
+        return fresh;
+    }
+
+    @Benchmark
+    public Integer mapChain() {
+        Lazy<Integer> chain = Lazy.of(() -> 0);
+        for (int i = 0; i < CHAIN; i++) {
+            chain = chain.map(x -> x + 1);
+        }
+        return chain.get();
+    }
+
+    @Benchmark
+    public Integer nestedSupplierMapChain() {
+        SynchronizedLazy<Integer> chain = new SynchronizedLazy<>(() -> 0);
+        for (int i = 0; i < CHAIN; i++) {
+            final SynchronizedLazy<Integer> previous = chain;
+            chain = new SynchronizedLazy<>(() -> previous.get() + 1);
+        }
+        return chain.get();
+    }
+
+    static final class SynchronizedLazy<T> implements Supplier<T> {
+
+        private volatile Supplier<? extends T> supplier;
+        private volatile T value;
+
+        SynchronizedLazy(Supplier<? extends T> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public T get() {
+            return supplier == null ? value : compute();
+        }
+
+        private synchronized T compute() {
+            if (supplier != null) {
+                value = supplier.get();
+                supplier = null;
+            }
+            return value;
+        }
+    }
+}
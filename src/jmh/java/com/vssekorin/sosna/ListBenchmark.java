@@ -0,0 +1,387 @@
+package com.vssekorin.sosna;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.ListIterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    int size;
+
+    int mid;
+
+    List<Integer> list;
+    List<Integer> listCopy;
+    ArrayList<Integer> arrayList;
+    ArrayList<Integer> arrayListCopy;
+    LinkedList<Integer> linkedList;
+    LinkedList<Integer> linkedListCopy;
+
+    @Setup
+    public void setup() {
+        mid = size / 2;
+        arrayList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            arrayList.add(i);
+        }
+        arrayListCopy = new ArrayList<>(arrayList);
+        linkedList = new LinkedList<>(arrayList);
+        linkedListCopy = new LinkedList<>(arrayList);
+        list = List.ofAll(arrayList);
+        listCopy = List.ofAll(arrayList);
+    }
+
+    @Benchmark
+    public Object mapList() {
+        return list.map(v -> v + 1);
+    }
+
+    @Benchmark
+    public Object mapArrayList() {
+        final ArrayList<Integer> result = new ArrayList<>(arrayList.size());
+        for (Integer v : arrayList) {
+            result.add(v + 1);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object mapLinkedList() {
+        final LinkedList<Integer> result = new LinkedList<>();
+        for (Integer v : linkedList) {
+            result.add(v + 1);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object mapStream() {
+        return arrayList.stream().map(v -> v + 1).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Object filterIndexedList() {
+        return list.filterIndexed((i, v) -> i % 2 == 0);
+    }
+
+    @Benchmark
+    public Object filterIndexedArrayList() {
+        final ArrayList<Integer> result = new ArrayList<>();
+        for (int i = 0; i < arrayList.size(); i++) {
+            if (i % 2 == 0) {
+                result.add(arrayList.get(i));
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object filterIndexedLinkedList() {
+        final LinkedList<Integer> result = new LinkedList<>();
+        int i = 0;
+        for (Integer v : linkedList) {
+            if (i++ % 2 == 0) {
+                result.add(v);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object filterIndexedStream() {
+        return IntStream.range(0, arrayList.size())
+            .filter(i -> i % 2 == 0)
+            .mapToObj(arrayList::get)
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Object appendList() {
+        return list.append(-1);
+    }
+
+    @Benchmark
+    public Object appendArrayList() {
+        final ArrayList<Integer> result = new ArrayList<>(arrayList.size() + 1);
+        result.addAll(arrayList);
+        result.add(-1);
+        return result;
+    }
+
+    @Benchmark
+    public Object appendLinkedList() {
+        final LinkedList<Integer> result = new LinkedList<>(linkedList);
+        result.add(-1);
+        return result;
+    }
+
+    @Benchmark
+    public Object appendStream() {
+        return Stream.concat(arrayList.stream(), Stream.of(-1)).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Object appendAllList() {
+        return list.appendAll(listCopy);
+    }
+
+    @Benchmark
+    public Object appendAllArrayList() {
+        final ArrayList<Integer> result = new ArrayList<>(arrayList.size() + arrayListCopy.size());
+        result.addAll(arrayList);
+        result.addAll(arrayListCopy);
+        return result;
+    }
+
+    @Benchmark
+    public Object appendAllLinkedList() {
+        final LinkedList<Integer> result = new LinkedList<>(linkedList);
+        result.addAll(linkedListCopy);
+        return result;
+    }
+
+    @Benchmark
+    public Object appendAllStream() {
+        return Stream.concat(arrayList.stream(), arrayListCopy.stream()).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Object insertList() {
+        return list.insert(mid, -1);
+    }
+
+    @Benchmark
+    public Object insertArrayList() {
+        final ArrayList<Integer> result = new ArrayList<>(arrayList.size() + 1);
+        result.addAll(arrayList);
+        result.add(mid, -1);
+        return result;
+    }
+
+    @Benchmark
+    public Object insertLinkedList() {
+        final LinkedList<Integer> result = new LinkedList<>(linkedList);
+        result.add(mid, -1);
+        return result;
+    }
+
+    @Benchmark
+    public Object insertStream() {
+        return Stream.of(
+            arrayList.stream().limit(mid),
+            Stream.of(-1),
+            arrayList.stream().skip(mid)
+        ).flatMap(s -> s).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Object withList() {
+        return list.with(mid, -1);
+    }
+
+    @Benchmark
+    public Object withArrayList() {
+        final ArrayList<Integer> result = new ArrayList<>(arrayList);
+        result.set(mid, -1);
+        return result;
+    }
+
+    @Benchmark
+    public Object withLinkedList() {
+        final LinkedList<Integer> result = new LinkedList<>(linkedList);
+        result.set(mid, -1);
+        return result;
+    }
+
+    @Benchmark
+    public Object withStream() {
+        return IntStream.range(0, arrayList.size())
+            .mapToObj(i -> i == mid ? -1 : arrayList.get(i))
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Object getList() {
+        return list.get(mid);
+    }
+
+    @Benchmark
+    public Object getArrayList() {
+        return arrayList.get(mid);
+    }
+
+    @Benchmark
+    public Object getLinkedList() {
+        return linkedList.get(mid);
+    }
+
+    @Benchmark
+    public Object getStream() {
+        return arrayList.stream().skip(mid).findFirst().orElseThrow();
+    }
+
+    @Benchmark
+    public int sizeList() {
+        return list.size();
+    }
+
+    @Benchmark
+    public int sizeArrayList() {
+        return arrayList.size();
+    }
+
+    @Benchmark
+    public int sizeLinkedList() {
+        return linkedList.size();
+    }
+
+    @Benchmark
+    public long sizeStream() {
+        return arrayList.stream().filter(v -> true).count();
+    }
+
+    @Benchmark
+    public int foldRightList() {
+        return list.foldRight(0, (v, acc) -> acc * 31 + v);
+    }
+
+    @Benchmark
+    public int foldRightArrayList() {
+        int acc = 0;
+        for (ListIterator<Integer> it = arrayList.listIterator(arrayList.size()); it.hasPrevious(); ) {
+            acc = acc * 31 + it.previous();
+        }
+        return acc;
+    }
+
+    @Benchmark
+    public int foldRightLinkedList() {
+        int acc = 0;
+        for (ListIterator<Integer> it = linkedList.listIterator(linkedList.size()); it.hasPrevious(); ) {
+            acc = acc * 31 + it.previous();
+        }
+        return acc;
+    }
+
+    @Benchmark
+    public int foldRightStream() {
+        return IntStream.range(0, arrayList.size())
+            .map(i -> arrayList.get(arrayList.size() - 1 - i))
+            .reduce(0, (acc, v) -> acc * 31 + v);
+    }
+
+    @Benchmark
+    public Object zipList() {
+        return list.zip(listCopy);
+    }
+
+    @Benchmark
+    public Object zipArrayList() {
+        final ArrayList<Tuple2<Integer, Integer>> result = new ArrayList<>(arrayList.size());
+        for (int i = 0; i < arrayList.size(); i++) {
+            result.add(new Tuple2<>(arrayList.get(i), arrayListCopy.get(i)));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object zipLinkedList() {
+        final LinkedList<Tuple2<Integer, Integer>> result = new LinkedList<>();
+        final ListIterator<Integer> that = linkedListCopy.listIterator();
+        for (Integer v : linkedList) {
+            result.add(new Tuple2<>(v, that.next()));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object zipStream() {
+        return IntStream.range(0, arrayList.size())
+            .mapToObj(i -> new Tuple2<>(arrayList.get(i), arrayListCopy.get(i)))
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Object takeRightList() {
+        return list.takeRight(mid);
+    }
+
+    @Benchmark
+    public Object takeRightArrayList() {
+        return new ArrayList<>(arrayList.subList(arrayList.size() - mid, arrayList.size()));
+    }
+
+    @Benchmark
+    public Object takeRightLinkedList() {
+        return new LinkedList<>(linkedList.subList(linkedList.size() - mid, linkedList.size()));
+    }
+
+    @Benchmark
+    public Object takeRightStream() {
+        return arrayList.stream().skip(arrayList.size() - mid).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public boolean equalsList() {
+        return list.equals(listCopy);
+    }
+
+    @Benchmark
+    public boolean equalsArrayList() {
+        return arrayList.equals(arrayListCopy);
+    }
+
+    @Benchmark
+    public boolean equalsLinkedList() {
+        return linkedList.equals(linkedListCopy);
+    }
+
+    @Benchmark
+    public boolean equalsStream() {
+        return IntStream.range(0, arrayList.size())
+            .allMatch(i -> arrayList.get(i).equals(arrayListCopy.get(i)));
+    }
+
+    @Benchmark
+    public int hashCodeList() {
+        return list.hashCode();
+    }
+
+    @Benchmark
+    public int hashCodeArrayList() {
+        return arrayList.hashCode();
+    }
+
+    @Benchmark
+    public int hashCodeLinkedList() {
+        return linkedList.hashCode();
+    }
+
+    @Benchmark
+    public int hashCodeStream() {
+        return arrayList.stream().mapToInt(Object::hashCode).reduce(1, (acc, v) -> 31 * acc + v);
+    }
+}
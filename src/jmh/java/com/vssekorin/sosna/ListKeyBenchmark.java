@@ -0,0 +1,77 @@
+package com.vssekorin.sosna;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListKeyBenchmark {
+
+    @Param({"1000", "1000000"})
+    int size;
+
+    List<Integer> key;
+    List<Integer> equalKey;
+    List<Integer> sharedTailKey;
+    HashMap<List<Integer>, Integer> cache;
+
+    @Setup
+    public void setup() {
+        final ListBuilder<Integer> first = new ListBuilder<>();
+        final ListBuilder<Integer> second = new ListBuilder<>();
+        for (int i = 0; i < size; i++) {
+            first.add(i);
+            second.add(i);
+        }
+        key = first.build();
+        equalKey = second.build();
+        sharedTailKey = key.tail().prepend(0);
+        cache = HashMap.empty();
+        for (int i = 0; i < 64; i++) {
+            cache = cache.put(key.prepend(i), i);
+        }
+        cache = cache.put(key, -1);
+        key.hashCode();
+        equalKey.hashCode();
+    }
+
+    @Benchmark
+    public int hashCodeOfKey() {
+        return key.hashCode();
+    }
+
+    @Benchmark
+    public int hashCodeOfPrepended() {
+        return key.prepend(1).hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsOfCopy() {
+        return key.equals(equalKey);
+    }
+
+    @Benchmark
+    public boolean equalsOfSharedTail() {
+        return key.equals(sharedTailKey);
+    }
+
+    @Benchmark
+    public Object cacheLookup() {
+        return cache.getOrNull(equalKey);
+    }
+}
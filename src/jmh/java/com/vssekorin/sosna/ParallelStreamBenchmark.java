@@ -0,0 +1,81 @@
+package com.vssekorin.sosna;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelStreamBenchmark {
+
+    @Param({"1000000"})
+    int size;
+
+    List<Integer> list;
+    ArrayList<Integer> arrayList;
+
+    @Setup
+    public void setup() {
+        arrayList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            arrayList.add(i);
+        }
+        list = List.ofAll(arrayList);
+    }
+
+    @Benchmark
+    public long sumList() {
+        return list.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallelSumList() {
+        return list.stream().parallel().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallelSumArrayList() {
+        return arrayList.stream().parallel().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public Object mapList() {
+        return list.stream().map(v -> v * 31 + 7).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Object parallelMapList() {
+        return list.stream().parallel().map(v -> v * 31 + 7).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Object parallelMapArrayList() {
+        return arrayList.stream().parallel().map(v -> v * 31 + 7).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Integer foldList() {
+        return list.fold(Monoid.Int.sum);
+    }
+
+    @Benchmark
+    public Integer parallelFoldList() {
+        return list.parallelFold(Monoid.Int.sum);
+    }
+}
@@ -0,0 +1,56 @@
+package com.vssekorin.sosna;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveFoldBenchmark {
+
+    @Param({"1000", "1000000"})
+    int size;
+
+    List<Integer> list;
+    IntList intList;
+
+    @Setup
+    public void setup() {
+        final ArrayList<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(i);
+        }
+        list = List.ofAll(values);
+        intList = list.mapToInt(Integer::intValue);
+    }
+
+    @Benchmark
+    public Integer foldBoxed() {
+        return list.fold(Monoid.Int.sum);
+    }
+
+    @Benchmark
+    public int foldPrimitive() {
+        return intList.fold(IntMonoid.sum);
+    }
+
+    @Benchmark
+    public Object mapToInt() {
+        return list.mapToInt(Integer::intValue);
+    }
+}
@@ -0,0 +1,74 @@
+package com.vssekorin.sosna;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    int size;
+
+    Queue<Integer> shared;
+
+    @Setup
+    public void setup() {
+        Queue<Integer> queue = Queue.of(-1);
+        for (int i = 0; i < size; i++) {
+            queue = queue.append(i);
+        }
+        shared = queue.tail();
+    }
+
+    @Benchmark
+    public Object appendOneByOneList() {
+        List<Integer> result = List.nil();
+        for (int i = 0; i < size; i++) {
+            result = result.append(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object appendOneByOneQueue() {
+        Queue<Integer> result = Queue.empty();
+        for (int i = 0; i < size; i++) {
+            result = result.append(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int drainQueue() {
+        Queue<Integer> queue = Queue.empty();
+        for (int i = 0; i < size; i++) {
+            queue = queue.append(i);
+        }
+        int sum = 0;
+        for (; queue.nonEmpty(); queue = queue.tail()) {
+            sum += queue.head();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int tailOfSharedVersion() {
+        return shared.tail().size();
+    }
+}
@@ -0,0 +1,65 @@
+package com.vssekorin.sosna;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScanBenchmark {
+
+    private static final Monoid<BigDecimal> SUM = new Monoid<>() {
+        @Override public BigDecimal empty() { return BigDecimal.ZERO; }
+        @Override public BigDecimal combine(BigDecimal x, BigDecimal y) { return x.add(y); }
+    };
+
+    @Param({"1000000"})
+    int size;
+
+    Vector<BigDecimal> ledger;
+
+    @Setup
+    public void setup() {
+        final ListBuilder<BigDecimal> values = new ListBuilder<>();
+        for (int i = 0; i < size; i++) {
+            values.add(BigDecimal.valueOf(i % 2000 - 1000, 2));
+        }
+        ledger = Vector.ofAll(values.build());
+    }
+
+    @Benchmark
+    public Vector<BigDecimal> handWrittenLoop() {
+        Vector<BigDecimal> result = Vector.of(BigDecimal.ZERO);
+        BigDecimal acc = BigDecimal.ZERO;
+        for (BigDecimal value : ledger) {
+            acc = acc.add(value);
+            result = result.append(acc);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Vector<BigDecimal> scanLeft() {
+        return ledger.scanLeft(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Benchmark
+    public Vector<BigDecimal> parallelScan() {
+        return ledger.parallelScan(SUM);
+    }
+}
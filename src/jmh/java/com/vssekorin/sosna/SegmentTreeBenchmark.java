@@ -0,0 +1,81 @@
+package com.vssekorin.sosna;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SegmentTreeBenchmark {
+
+    private static final int QUERIES = 100;
+
+    @Param({"1000", "100000"})
+    int size;
+
+    List<Integer> list;
+    SegmentTree<Integer> tree;
+    int[] froms;
+    int[] tos;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        final ListBuilder<Integer> values = new ListBuilder<>();
+        for (int i = 0; i < size; i++) {
+            values.add(random.nextInt(1000));
+        }
+        list = values.build();
+        tree = SegmentTree.ofAll(Monoid.Int.sum, list);
+        froms = new int[QUERIES];
+        tos = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            final int a = random.nextInt(size + 1);
+            final int b = random.nextInt(size + 1);
+            froms[i] = Math.min(a, b);
+            tos[i] = Math.max(a, b);
+        }
+    }
+
+    @Benchmark
+    public int listTakeFold() {
+        int result = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            result += list.take(tos[i]).takeRight(tos[i] - froms[i]).fold(Monoid.Int.sum);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int segmentTreeRangeFold() {
+        int result = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            result += tree.rangeFold(froms[i], tos[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public SegmentTree<Integer> segmentTreeWith() {
+        SegmentTree<Integer> result = tree;
+        for (int i = 0; i < QUERIES; i++) {
+            result = result.with(froms[i] % size, i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,87 @@
+package com.vssekorin.sosna;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortBenchmark {
+
+    @Param({"1000", "1000000"})
+    int size;
+
+    List<Integer> list;
+    List<?>[] shards;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        final ListBuilder<Integer> values = new ListBuilder<>();
+        for (int i = 0; i < size; i++) {
+            values.add(random.nextInt());
+        }
+        list = values.build();
+        shards = new List<?>[32];
+        for (int i = 0; i < shards.length; i++) {
+            final ListBuilder<Integer> shard = new ListBuilder<>();
+            for (int j = 0; j < size / shards.length; j++) {
+                shard.add(random.nextInt());
+            }
+            shards[i] = shard.build().sorted(Comparator.naturalOrder());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Integer>[] shards() {
+        return (List<Integer>[]) shards;
+    }
+
+    @Benchmark
+    public Object sortViaJava() {
+        final java.util.List<Integer> copy = list.asJava();
+        Collections.sort(copy);
+        return List.ofAll(copy);
+    }
+
+    @Benchmark
+    public Object sorted() {
+        return list.sorted(Comparator.naturalOrder());
+    }
+
+    @Benchmark
+    public Object parallelSorted() {
+        return list.parallelSorted(Comparator.naturalOrder());
+    }
+
+    @Benchmark
+    public Object mergeShards() {
+        return List.mergeSorted(Comparator.naturalOrder(), shards());
+    }
+
+    @Benchmark
+    public Object mergeShardsByConcatAndSort() {
+        List<Integer> all = List.nil();
+        for (List<Integer> shard : shards()) {
+            all = all.appendAll(shard);
+        }
+        return all.sorted(Comparator.naturalOrder());
+    }
+}
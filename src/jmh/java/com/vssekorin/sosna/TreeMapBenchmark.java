@@ -0,0 +1,68 @@
+package com.vssekorin.sosna;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TreeMapBenchmark {
+
+    @Param({"1000", "50000"})
+    int size;
+
+    long key;
+
+    TreeMap<Long, Integer> map;
+    List<Long> sortedList;
+
+    @Setup
+    public void setup() {
+        key = size;
+        map = TreeMap.empty();
+        final ListBuilder<Long> values = new ListBuilder<>();
+        for (int i = 0; i < size; i++) {
+            map = map.put((long) i * 2, i);
+            values.add((long) i * 2);
+        }
+        sortedList = values.build();
+    }
+
+    @Benchmark
+    public Object insertTree() {
+        return map.put(key + 1, -1);
+    }
+
+    @Benchmark
+    public Object insertResortList() {
+        final ArrayList<Long> values = new ArrayList<>(sortedList.asJava());
+        values.add(key + 1);
+        values.sort(null);
+        return List.ofAll(values);
+    }
+
+    @Benchmark
+    public Object floorTree() {
+        return map.floor(key + 1);
+    }
+
+    @Benchmark
+    public int rangeSizeTree() {
+        return map.range(key / 2, key + key / 2).size();
+    }
+}
@@ -0,0 +1,84 @@
+package com.vssekorin.sosna;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    int size;
+
+    int mid;
+
+    List<Integer> list;
+    Vector<Integer> vector;
+
+    @Setup
+    public void setup() {
+        mid = size / 2;
+        final ArrayList<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(i);
+        }
+        list = List.ofAll(values);
+        vector = Vector.ofAll(values);
+    }
+
+    @Benchmark
+    public Object getList() {
+        return list.get(mid);
+    }
+
+    @Benchmark
+    public Object getVector() {
+        return vector.get(mid);
+    }
+
+    @Benchmark
+    public Object withList() {
+        return list.with(mid, -1);
+    }
+
+    @Benchmark
+    public Object withVector() {
+        return vector.with(mid, -1);
+    }
+
+    @Benchmark
+    public Object appendList() {
+        return list.append(-1);
+    }
+
+    @Benchmark
+    public Object appendVector() {
+        return vector.append(-1);
+    }
+
+    @Benchmark
+    public Object lastList() {
+        return list.last();
+    }
+
+    @Benchmark
+    public Object lastVector() {
+        return vector.last();
+    }
+}
@@ -0,0 +1,57 @@
+package com.vssekorin.sosna;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WindowBenchmark {
+
+    @Param({"10000"})
+    int size;
+
+    @Param({"16", "1024"})
+    int window;
+
+    List<Integer> events;
+
+    @Setup
+    public void setup() {
+        final ListBuilder<Integer> values = new ListBuilder<>();
+        for (int i = 0; i < size; i++) {
+            values.add(i * 31 % 1000);
+        }
+        events = values.build();
+    }
+
+    @Benchmark
+    public int takeFoldPerWindow() {
+        int result = 0;
+        List<Integer> rest = events;
+        for (int i = 0; i + window <= size; i++) {
+            result += rest.take(window).fold(Monoid.Int.sum);
+            rest = rest.tail();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int slidingFold() {
+        return events.slidingFold(window, Monoid.Int.sum).foldLeft(0, Integer::sum);
+    }
+}
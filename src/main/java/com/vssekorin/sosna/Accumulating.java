@@ -0,0 +1,38 @@
+package com.vssekorin.sosna;
+
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+public interface Accumulating<T, A> {
+
+    A supply();
+
+    void accumulate(A acc, T value);
+
+    T finish(A acc);
+
+    static <T, A> T fold(Foldable<T> foldable, Accumulating<T, A> accumulating) {
+        return foldMap(foldable, Function.identity(), accumulating);
+    }
+
+    static <T, M, A> M foldMap(Foldable<T> foldable, Function<? super T, ? extends M> f, Accumulating<M, A> accumulating) {
+        final A acc = accumulating.supply();
+        foldable.foldLeft(acc, (a, value) -> {
+            accumulating.accumulate(a, f.apply(value));
+            return a;
+        });
+        return accumulating.finish(acc);
+    }
+
+    static <T, A> T reduce(Foldable<T> foldable, Accumulating<T, A> accumulating) {
+        final A acc = accumulating.supply();
+        final boolean nonEmpty = foldable.foldLeft(false, (seen, value) -> {
+            accumulating.accumulate(acc, value);
+            return true;
+        });
+        if (!nonEmpty) {
+            throw new NoSuchElementException("reduce of empty foldable");
+        }
+        return accumulating.finish(acc);
+    }
+}
@@ -0,0 +1,112 @@
+package com.vssekorin.sosna;
+
+import java.io.Serializable;
+
+public final class BloomFilter implements Serializable {
+
+    private final int size;
+    private final int hashes;
+    private final long[] bits;
+    private final long hash;
+
+    private BloomFilter(int size, int hashes, long[] bits, long hash) {
+        this.size = size;
+        this.hashes = hashes;
+        this.bits = bits;
+        this.hash = hash;
+    }
+
+    public static BloomFilter of(Object value) {
+        return ofHash(Sketches.hash64(value));
+    }
+
+    public static BloomFilter ofHash(long hash) {
+        return new BloomFilter(0, 0, null, hash);
+    }
+
+    public boolean mightContain(Object value) {
+        return mightContainHash(Sketches.hash64(value));
+    }
+
+    public boolean mightContainHash(long valueHash) {
+        if (bits == null) {
+            return valueHash == hash;
+        }
+        final int first = (int) valueHash;
+        final int second = (int) (valueHash >>> 32);
+        for (int i = 1; i <= hashes; i++) {
+            final int index = index(first, second, i, size);
+            if ((bits[index >>> 6] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int index(int first, int second, int i, int size) {
+        final int combined = first + i * second;
+        return (combined < 0 ? ~combined : combined) % size;
+    }
+
+    private void mergeInto(long[] target, int targetSize, int targetHashes) {
+        if (bits == null) {
+            final int first = (int) hash;
+            final int second = (int) (hash >>> 32);
+            for (int i = 1; i <= targetHashes; i++) {
+                final int index = index(first, second, i, targetSize);
+                target[index >>> 6] |= 1L << index;
+            }
+            return;
+        }
+        if (size != targetSize || hashes != targetHashes) {
+            throw new IllegalArgumentException("Cannot merge BloomFilters with different sizes or hash counts");
+        }
+        for (int i = 0; i < target.length; i++) {
+            target[i] |= bits[i];
+        }
+    }
+
+    static final class Merging implements Monoid<BloomFilter>, Accumulating<BloomFilter, long[]> {
+
+        private final int size;
+        private final int hashes;
+        private final BloomFilter empty;
+
+        Merging(int size, int hashes) {
+            if (size <= 0 || hashes <= 0) {
+                throw new IllegalArgumentException("BloomFilter size and hashes must be positive");
+            }
+            this.size = size;
+            this.hashes = hashes;
+            this.empty = new BloomFilter(size, hashes, supply(), 0);
+        }
+
+        @Override
+        public BloomFilter empty() {
+            return empty;
+        }
+
+        @Override
+        public BloomFilter combine(BloomFilter x, BloomFilter y) {
+            final long[] acc = supply();
+            accumulate(acc, x);
+            accumulate(acc, y);
+            return finish(acc);
+        }
+
+        @Override
+        public long[] supply() {
+            return new long[(size + Long.SIZE - 1) / Long.SIZE];
+        }
+
+        @Override
+        public void accumulate(long[] acc, BloomFilter value) {
+            value.mergeInto(acc, size, hashes);
+        }
+
+        @Override
+        public BloomFilter finish(long[] acc) {
+            return new BloomFilter(size, hashes, acc, 0);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.vssekorin.sosna;
+
+final class Concat {
+
+    private Concat() {
+    }
+
+    static final class Strings implements Monoid<String>, Accumulating<String, StringBuilder> {
+
+        static final Strings INSTANCE = new Strings();
+
+        private Strings() {
+        }
+
+        @Override
+        public String empty() {
+            return "";
+        }
+
+        @Override
+        public String combine(String x, String y) {
+            return x + y;
+        }
+
+        @Override
+        public StringBuilder supply() {
+            return new StringBuilder();
+        }
+
+        @Override
+        public void accumulate(StringBuilder acc, String value) {
+            acc.append(value);
+        }
+
+        @Override
+        public String finish(StringBuilder acc) {
+            return acc.toString();
+        }
+    }
+
+    static final class Lists<T> implements Monoid<List<T>>, Accumulating<List<T>, Lists.Buffer<T>> {
+
+        static final Lists<?> INSTANCE = new Lists<>();
+
+        private Lists() {
+        }
+
+        @Override
+        public List<T> empty() {
+            return List.nil();
+        }
+
+        @Override
+        public List<T> combine(List<T> x, List<T> y) {
+            return x.appendAll(y);
+        }
+
+        @Override
+        public Buffer<T> supply() {
+            return new Buffer<>();
+        }
+
+        @Override
+        public void accumulate(Buffer<T> acc, List<T> value) {
+            acc.add(value);
+        }
+
+        @Override
+        public List<T> finish(Buffer<T> acc) {
+            return acc.build();
+        }
+
+        static final class Buffer<T> {
+
+            private final ListBuilder<T> prefix = new ListBuilder<>();
+            private List<T> last = List.nil();
+
+            private void add(List<T> value) {
+                if (value.isEmpty()) {
+                    return;
+                }
+                for (List<T> cur = last; cur.nonEmpty(); cur = cur.tail()) {
+                    prefix.add(cur.head());
+                }
+                last = value;
+            }
+
+            private List<T> build() {
+                return prefix.build(last);
+            }
+        }
+    }
+}
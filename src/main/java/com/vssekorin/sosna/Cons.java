@@ -1,5 +1,6 @@
 package com.vssekorin.sosna;
 
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -9,10 +10,13 @@ public final class Cons<T> extends List<T> {
 
     private final T head;
     private final List<T> tail;
+    private final int size;
+    private int hash;
 
     public Cons(T head, List<T> tail) {
         this.head = head;
         this.tail = tail;
+        this.size = tail.size() + 1;
     }
 
     @Override
@@ -20,6 +24,11 @@ public final class Cons<T> extends List<T> {
         return false;
     }
 
+    @Override
+    public int size() {
+        return size;
+    }
+
     @Override
     public T head() {
         return head;
@@ -42,16 +51,25 @@ public final class Cons<T> extends List<T> {
 
     @Override
     public List<T> append(T value) {
-        List<T> list = new Cons<>(value, List.nil());
-        for (List<T> cur = reverse(); cur.nonEmpty(); cur = cur.tail()) {
-            list = new Cons<>(cur.head(), list);
+        final ListBuilder<T> builder = new ListBuilder<>();
+        for (List<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
+            builder.add(cur.head());
         }
-        return list;
+        return builder.build(List.of(value));
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public List<T> appendAll(Iterable<? extends T> values) {
-        return List.<T>ofAll(values).prependAll(this);
+        final List<T> suffix = values instanceof List ? (List<T>) values : List.ofAll(values);
+        if (suffix.isEmpty()) {
+            return this;
+        }
+        final ListBuilder<T> prefix = new ListBuilder<>();
+        for (List<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
+            prefix.add(cur.head());
+        }
+        return prefix.build(suffix);
     }
 
     @Override
@@ -59,12 +77,12 @@ public final class Cons<T> extends List<T> {
         if (n < 0) {
             throw new IndexOutOfBoundsException("get(): n is negative");
         }
+        if (n >= size) {
+            throw new IndexOutOfBoundsException("get(): n is more than length");
+        }
         List<T> cur = this;
         for (int i = 0; i < n; i++) {
             cur = cur.tail();
-            if (cur.isNil()) {
-                throw new IndexOutOfBoundsException("get(): n is more than length");
-            }
         }
         return cur.head();
     }
@@ -74,12 +92,12 @@ public final class Cons<T> extends List<T> {
         if (n < 0) {
             throw new IndexOutOfBoundsException("get(): n is negative");
         }
+        if (n >= size) {
+            return Optional.empty();
+        }
         List<T> cur = this;
         for (int i = 0; i < n; i++) {
             cur = cur.tail();
-            if (cur.isNil()) {
-                return Optional.empty();
-            }
         }
         return Optional.ofNullable(cur.head());
     }
@@ -89,12 +107,12 @@ public final class Cons<T> extends List<T> {
         if (n < 0) {
             throw new IndexOutOfBoundsException("get(): n is negative");
         }
+        if (n >= size) {
+            return defaultValue;
+        }
         List<T> cur = this;
         for (int i = 0; i < n; i++) {
             cur = cur.tail();
-            if (cur.isNil()) {
-                return defaultValue;
-            }
         }
         return cur.head();
     }
@@ -104,12 +122,12 @@ public final class Cons<T> extends List<T> {
         if (n < 0) {
             throw new IndexOutOfBoundsException("get(): n is negative");
         }
+        if (n >= size) {
+            return defaultValue.get();
+        }
         List<T> cur = this;
         for (int i = 0; i < n; i++) {
             cur = cur.tail();
-            if (cur.isNil()) {
-                return defaultValue.get();
-            }
         }
         return cur.head();
     }
@@ -169,4 +187,46 @@ public final class Cons<T> extends List<T> {
     public T reduceRight(BiFunction<? super T, ? super T, ? extends T> func) {
         return this.reverse().reduceLeft((acc, v) -> func.apply(v, acc));
     }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) return true;
+        if (!(that instanceof Cons)) return false;
+        Cons<?> cons = (Cons<?>) that;
+        if (size != cons.size) return false;
+        if (hash != 0 && cons.hash != 0 && hash != cons.hash) return false;
+        List<?> other = cons;
+        for (List<T> cur = this; cur != other && cur.nonEmpty(); cur = cur.tail(), other = other.tail()) {
+            if (!Objects.equals(cur.head(), other.head())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int h = hash;
+        return h != 0 ? h : computeHash();
+    }
+
+    private int computeHash() {
+        int uncached = 0;
+        List<T> cur = this;
+        for (; cur instanceof Cons && ((Cons<T>) cur).hash == 0; cur = cur.tail()) {
+            uncached++;
+        }
+        final Cons<?>[] pending = new Cons<?>[uncached];
+        int count = 0;
+        for (List<T> node = this; count < uncached; node = node.tail()) {
+            pending[count++] = (Cons<T>) node;
+        }
+        int h = cur.hashCode();
+        while (count > 0) {
+            final Cons<?> node = pending[--count];
+            h = 31 * h + Objects.hashCode(node.head);
+            node.hash = h;
+        }
+        return h;
+    }
 }
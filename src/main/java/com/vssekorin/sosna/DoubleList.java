@@ -0,0 +1,281 @@
+package com.vssekorin.sosna;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+public final class DoubleList implements Iterable<Double>, Ext<DoubleList>, Serializable {
+
+    private static final DoubleList EMPTY = new DoubleList(new double[0]);
+
+    private final double[] values;
+
+    private DoubleList(double[] values) {
+        this.values = values;
+    }
+
+    static DoubleList wrap(double[] values) {
+        return values.length == 0 ? EMPTY : new DoubleList(values);
+    }
+
+    public static DoubleList empty() {
+        return EMPTY;
+    }
+
+    public static DoubleList of(double... values) {
+        return wrap(values.clone());
+    }
+
+    public static DoubleList ofAll(Iterable<Double> values) {
+        if (values instanceof DoubleList) {
+            return (DoubleList) values;
+        }
+        double[] array = new double[16];
+        int size = 0;
+        for (Double value : values) {
+            if (size == array.length) {
+                array = Arrays.copyOf(array, size << 1);
+            }
+            array[size++] = value;
+        }
+        return wrap(Arrays.copyOf(array, size));
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    public boolean nonEmpty() {
+        return values.length != 0;
+    }
+
+    public double head() {
+        if (values.length == 0) {
+            throw new NoSuchElementException("head() of empty list");
+        }
+        return values[0];
+    }
+
+    public DoubleList tail() {
+        if (values.length == 0) {
+            throw new UnsupportedOperationException("tail() of empty list");
+        }
+        return wrap(Arrays.copyOfRange(values, 1, values.length));
+    }
+
+    public double last() {
+        if (values.length == 0) {
+            throw new NoSuchElementException("last() of empty list");
+        }
+        return values[values.length - 1];
+    }
+
+    public double get(int n) {
+        if (n < 0) {
+            throw new IndexOutOfBoundsException("get(): n is negative");
+        }
+        if (n >= values.length) {
+            throw new IndexOutOfBoundsException("get(): n is more than length");
+        }
+        return values[n];
+    }
+
+    public boolean contains(double value) {
+        for (double cur : values) {
+            if (Double.compare(cur, value) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public DoubleList prepend(double value) {
+        final double[] result = new double[values.length + 1];
+        result[0] = value;
+        System.arraycopy(values, 0, result, 1, values.length);
+        return new DoubleList(result);
+    }
+
+    public DoubleList append(double value) {
+        final double[] result = Arrays.copyOf(values, values.length + 1);
+        result[values.length] = value;
+        return new DoubleList(result);
+    }
+
+    public DoubleList appendAll(DoubleList other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        final double[] result = Arrays.copyOf(values, values.length + other.values.length);
+        System.arraycopy(other.values, 0, result, values.length, other.values.length);
+        return new DoubleList(result);
+    }
+
+    public DoubleList with(int pos, double value) {
+        if (pos < 0 || pos >= values.length) {
+            throw new IndexOutOfBoundsException("with() with pos = " + pos);
+        }
+        final double[] result = values.clone();
+        result[pos] = value;
+        return new DoubleList(result);
+    }
+
+    public DoubleList reverse() {
+        final double[] result = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[values.length - 1 - i] = values[i];
+        }
+        return wrap(result);
+    }
+
+    public DoubleList take(int n) {
+        return n >= values.length ? this : wrap(Arrays.copyOf(values, Math.max(n, 0)));
+    }
+
+    public DoubleList takeRight(int n) {
+        return n >= values.length
+            ? this
+            : wrap(Arrays.copyOfRange(values, values.length - Math.max(n, 0), values.length));
+    }
+
+    public DoubleList map(DoubleUnaryOperator mapper) {
+        final double[] result = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = mapper.applyAsDouble(values[i]);
+        }
+        return wrap(result);
+    }
+
+    public <U> List<U> mapToObj(DoubleFunction<? extends U> mapper) {
+        final ListBuilder<U> result = new ListBuilder<>();
+        for (double value : values) {
+            result.add(mapper.apply(value));
+        }
+        return result.build();
+    }
+
+    public DoubleList filter(DoublePredicate predicate) {
+        final double[] result = new double[values.length];
+        int size = 0;
+        for (double value : values) {
+            if (predicate.test(value)) {
+                result[size++] = value;
+            }
+        }
+        return size == values.length ? this : wrap(Arrays.copyOf(result, size));
+    }
+
+    public boolean all(DoublePredicate predicate) {
+        for (double value : values) {
+            if (!predicate.test(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean any(DoublePredicate predicate) {
+        for (double value : values) {
+            if (predicate.test(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public double foldLeft(double zero, DoubleBinaryOperator func) {
+        double result = zero;
+        for (double value : values) {
+            result = func.applyAsDouble(result, value);
+        }
+        return result;
+    }
+
+    public double foldRight(double zero, DoubleBinaryOperator func) {
+        double result = zero;
+        for (int i = values.length - 1; i >= 0; i--) {
+            result = func.applyAsDouble(values[i], result);
+        }
+        return result;
+    }
+
+    public double fold(DoubleMonoid monoid) {
+        double result = monoid.empty();
+        for (double value : values) {
+            result = monoid.combine(result, value);
+        }
+        return result;
+    }
+
+    public double reduce(DoubleSemigroup semigroup) {
+        if (values.length == 0) {
+            throw new NoSuchElementException("reduce of empty list");
+        }
+        double result = values[0];
+        for (int i = 1; i < values.length; i++) {
+            result = semigroup.combine(result, values[i]);
+        }
+        return result;
+    }
+
+    public double sum() {
+        return fold(DoubleMonoid.sum);
+    }
+
+    public List<Double> boxed() {
+        return mapToObj(Double::valueOf);
+    }
+
+    public double[] toArray() {
+        return values.clone();
+    }
+
+    public DoubleStream stream() {
+        return Arrays.stream(values);
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new PrimitiveIterator.OfDouble() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < values.length;
+            }
+
+            @Override
+            public double nextDouble() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return values[index++];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+        return Arrays.equals(values, ((DoubleList) that).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+}
@@ -0,0 +1,26 @@
+package com.vssekorin.sosna;
+
+public interface DoubleMonoid extends DoubleSemigroup {
+
+    double empty();
+
+    DoubleMonoid sum = new DoubleMonoid() {
+        @Override public double empty() { return 0; }
+        @Override public double combine(double x, double y) { return x + y; }
+    };
+
+    DoubleMonoid prod = new DoubleMonoid() {
+        @Override public double empty() { return 1; }
+        @Override public double combine(double x, double y) { return x * y; }
+    };
+
+    DoubleMonoid min = new DoubleMonoid() {
+        @Override public double empty() { return Double.POSITIVE_INFINITY; }
+        @Override public double combine(double x, double y) { return Math.min(x, y); }
+    };
+
+    DoubleMonoid max = new DoubleMonoid() {
+        @Override public double empty() { return Double.NEGATIVE_INFINITY; }
+        @Override public double combine(double x, double y) { return Math.max(x, y); }
+    };
+}
@@ -0,0 +1,12 @@
+package com.vssekorin.sosna;
+
+@FunctionalInterface
+public interface DoubleSemigroup {
+
+    double combine(double x, double y);
+
+    DoubleSemigroup sum = (x, y) -> x + y;
+    DoubleSemigroup prod = (x, y) -> x * y;
+    DoubleSemigroup min = Math::min;
+    DoubleSemigroup max = Math::max;
+}
@@ -0,0 +1,151 @@
+package com.vssekorin.sosna;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+public final class ExpiringLazy<T> implements Supplier<T>, Ext<ExpiringLazy<T>> {
+
+    private static final long NEVER = Long.MAX_VALUE;
+    private static final VarHandle CURRENT;
+
+    static {
+        try {
+            CURRENT = MethodHandles.lookup().findVarHandle(ExpiringLazy.class, "current", Lazy.class);
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private final Supplier<? extends T> supplier;
+    private final long ttlMillis;
+    private final long refreshMillis;
+    private final Clock clock;
+    private final Executor executor;
+    private volatile Lazy<Entry<T>> current;
+
+    private ExpiringLazy(
+        Supplier<? extends T> supplier,
+        long ttlMillis,
+        long refreshMillis,
+        Clock clock,
+        Executor executor
+    ) {
+        this.supplier = supplier;
+        this.ttlMillis = ttlMillis;
+        this.refreshMillis = refreshMillis;
+        this.clock = clock;
+        this.executor = executor;
+        this.current = load();
+    }
+
+    public static <T> ExpiringLazy<T> of(Supplier<? extends T> supplier) {
+        if (supplier == null) {
+            throw new NullPointerException("supplier is null");
+        }
+        return new ExpiringLazy<>(supplier, NEVER, NEVER, Clock.systemUTC(), ForkJoinPool.commonPool());
+    }
+
+    public ExpiringLazy<T> ttl(Duration ttl) {
+        return new ExpiringLazy<>(supplier, positiveMillis(ttl, "ttl"), refreshMillis, clock, executor);
+    }
+
+    public ExpiringLazy<T> refreshAfter(Duration refreshAfter) {
+        return new ExpiringLazy<>(supplier, ttlMillis, positiveMillis(refreshAfter, "refreshAfter"), clock, executor);
+    }
+
+    public ExpiringLazy<T> clock(Clock clock) {
+        if (clock == null) {
+            throw new NullPointerException("clock is null");
+        }
+        return new ExpiringLazy<>(supplier, ttlMillis, refreshMillis, clock, executor);
+    }
+
+    public ExpiringLazy<T> executor(Executor executor) {
+        if (executor == null) {
+            throw new NullPointerException("executor is null");
+        }
+        return new ExpiringLazy<>(supplier, ttlMillis, refreshMillis, clock, executor);
+    }
+
+    private static long positiveMillis(Duration duration, String name) {
+        if (duration == null) {
+            throw new NullPointerException(name + " is null");
+        }
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException(name + " must be positive: " + duration);
+        }
+        return Math.max(1, duration.toMillis());
+    }
+
+    private Lazy<Entry<T>> load() {
+        return Lazy.of(() -> new Entry<>(supplier.get(), clock.millis()));
+    }
+
+    public boolean isEvaluated() {
+        final Lazy<Entry<T>> generation = current;
+        return generation.isEvaluated() && clock.millis() - generation.get().loadedAt < ttlMillis;
+    }
+
+    @Override
+    public T get() {
+        while (true) {
+            final Lazy<Entry<T>> generation = current;
+            if (!generation.isEvaluated()) {
+                return generation.get().value;
+            }
+            final Entry<T> entry = generation.get();
+            final long age = clock.millis() - entry.loadedAt;
+            if (age >= ttlMillis) {
+                CURRENT.compareAndSet(this, generation, load());
+                continue;
+            }
+            if (age >= refreshMillis && entry.refreshing.compareAndSet(false, true)) {
+                refresh(generation, entry);
+            }
+            return entry.value;
+        }
+    }
+
+    private void refresh(Lazy<Entry<T>> generation, Entry<T> entry) {
+        try {
+            executor.execute(() -> {
+                final Entry<T> fresh;
+                try {
+                    fresh = new Entry<>(supplier.get(), clock.millis());
+                } catch (RuntimeException ex) {
+                    entry.refreshing.set(false);
+                    return;
+                } catch (Throwable ex) {
+                    entry.refreshing.set(false);
+                    throw ex;
+                }
+                CURRENT.compareAndSet(this, generation, Lazy.val(fresh));
+            });
+        } catch (RejectedExecutionException ex) {
+            entry.refreshing.set(false);
+        }
+    }
+
+    public void invalidate() {
+        current = load();
+    }
+
+    private static final class Entry<T> {
+
+        private final T value;
+        private final long loadedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(T value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -5,10 +5,22 @@ import java.util.function.Function;
 
 public interface Foldable<T> {
 
+    @SuppressWarnings("unchecked")
     default T fold(Monoid<T> monoid) {
+        if (monoid instanceof Accumulating) {
+            return Accumulating.fold(this, (Accumulating<T, ?>) monoid);
+        }
         return foldLeft(monoid.empty(), monoid::combine);
     }
 
+    @SuppressWarnings("unchecked")
+    default <M> M foldMap(Function<? super T, ? extends M> f, Monoid<M> monoid) {
+        if (monoid instanceof Accumulating) {
+            return Accumulating.foldMap(this, f, (Accumulating<M, ?>) monoid);
+        }
+        return foldLeft(monoid.empty(), (acc, value) -> monoid.combine(acc, f.apply(value)));
+    }
+
     default <U> U foldLeft(U zero, Function<? super U, Function<? super T, ? extends U>> func) {
         return foldLeft(zero, (a, b) -> func.apply(a).apply(b));
     }
@@ -0,0 +1,38 @@
+package com.vssekorin.sosna;
+
+import java.io.Serializable;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+public interface Hash<T> extends Eq<T>, Serializable {
+
+    int hash(T x);
+
+    static <T> Hash<T> of(Eq<T> equiv, ToIntFunction<? super T> hash) {
+        return new Hashes.Of<>(equiv, hash);
+    }
+
+    Hash<?> refHash = Hashes.RefHash.INSTANCE;
+
+    @SuppressWarnings("unchecked")
+    static <T> Hash<T> refHash() {
+        return (Hash<T>) refHash;
+    }
+
+    Hash<?> objectHash = Hashes.ObjectHash.INSTANCE;
+
+    @SuppressWarnings("unchecked")
+    static <T> Hash<T> objectHash() {
+        return (Hash<T>) objectHash;
+    }
+
+    Hash<String> ignoreCase = Hashes.IgnoreCase.INSTANCE;
+
+    static <T, K> Hash<T> by(Function<? super T, ? extends K> key) {
+        return by(key, objectHash());
+    }
+
+    static <T, K> Hash<T> by(Function<? super T, ? extends K> key, Hash<K> hash) {
+        return new Hashes.By<>(key, hash);
+    }
+}
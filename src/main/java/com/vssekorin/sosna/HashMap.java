@@ -0,0 +1,494 @@
+package com.vssekorin.sosna;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+public final class HashMap<K, V> implements Iterable<Tuple2<K, V>>, Foldable<Tuple2<K, V>>, Ext<HashMap<K, V>>, Serializable {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final HashMap<?, ?> EMPTY = new HashMap<>(BitmapNode.EMPTY, 0, Hash.objectHash());
+
+    private final Node<K, V> root;
+    private final int size;
+    private final Hash<K> keyHash;
+
+    private HashMap(Node<K, V> root, int size, Hash<K> keyHash) {
+        this.root = root;
+        this.size = size;
+        this.keyHash = keyHash;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> HashMap<K, V> empty() {
+        return (HashMap<K, V>) EMPTY;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> HashMap<K, V> empty(Hash<K> keyHash) {
+        return keyHash == Hash.objectHash ? (HashMap<K, V>) EMPTY : new HashMap<>(BitmapNode.empty(), 0, keyHash);
+    }
+
+    public static <K, V> HashMap<K, V> of(K key, V value) {
+        return HashMap.<K, V>empty().put(key, value);
+    }
+
+    @SafeVarargs
+    public static <K, V> HashMap<K, V> ofEntries(Tuple2<? extends K, ? extends V>... entries) {
+        HashMap<K, V> result = empty();
+        for (Tuple2<? extends K, ? extends V> entry : entries) {
+            result = result.put(entry._1(), entry._2());
+        }
+        return result;
+    }
+
+    public static <K, V> HashMap<K, V> ofAll(Iterable<? extends Tuple2<? extends K, ? extends V>> entries) {
+        return HashMap.<K, V>empty().putAll(entries);
+    }
+
+    public static <K, V> HashMap<K, V> ofAll(Hash<K> keyHash, Iterable<? extends Tuple2<? extends K, ? extends V>> entries) {
+        return HashMap.<K, V>empty(keyHash).putAll(entries);
+    }
+
+    public static <K, V> HashMap<K, V> ofAll(Map<? extends K, ? extends V> map) {
+        HashMap<K, V> result = empty();
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            result = result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private int hash(K key) {
+        return spread(keyHash.hash(key));
+    }
+
+    public Hash<K> keyHash() {
+        return keyHash;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean nonEmpty() {
+        return size != 0;
+    }
+
+    public Optional<V> get(K key) {
+        final Tuple2<K, V> entry = root.find(key, hash(key), 0, keyHash);
+        return entry == null ? Optional.empty() : Optional.ofNullable(entry._2());
+    }
+
+    public V getOrNull(K key) {
+        return getOr(key, null);
+    }
+
+    public V getOr(K key, V defaultValue) {
+        final Tuple2<K, V> entry = root.find(key, hash(key), 0, keyHash);
+        return entry == null ? defaultValue : entry._2();
+    }
+
+    public boolean containsKey(K key) {
+        return root.find(key, hash(key), 0, keyHash) != null;
+    }
+
+    public HashMap<K, V> put(K key, V value) {
+        final Delta delta = new Delta();
+        final Node<K, V> newRoot = root.put(new Tuple2<>(key, value), hash(key), 0, delta, keyHash);
+        return newRoot == root ? this : new HashMap<>(newRoot, delta.added ? size + 1 : size, keyHash);
+    }
+
+    public HashMap<K, V> put(Tuple2<? extends K, ? extends V> entry) {
+        return put(entry._1(), entry._2());
+    }
+
+    public HashMap<K, V> putAll(Iterable<? extends Tuple2<? extends K, ? extends V>> entries) {
+        HashMap<K, V> result = this;
+        for (Tuple2<? extends K, ? extends V> entry : entries) {
+            result = result.put(entry._1(), entry._2());
+        }
+        return result;
+    }
+
+    public HashMap<K, V> remove(K key) {
+        final Node<K, V> newRoot = root.remove(key, hash(key), 0, keyHash);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot == null ? empty(keyHash) : new HashMap<>(newRoot, size - 1, keyHash);
+    }
+
+    public List<K> keys() {
+        final ListBuilder<K> result = new ListBuilder<>();
+        for (Tuple2<K, V> entry : this) {
+            result.add(entry._1());
+        }
+        return result.build();
+    }
+
+    public List<V> values() {
+        final ListBuilder<V> result = new ListBuilder<>();
+        for (Tuple2<K, V> entry : this) {
+            result.add(entry._2());
+        }
+        return result.build();
+    }
+
+    public <U> HashMap<K, U> mapValues(Function<? super V, ? extends U> mapper) {
+        HashMap<K, U> result = empty(keyHash);
+        for (Tuple2<K, V> entry : this) {
+            result = result.put(entry._1(), mapper.apply(entry._2()));
+        }
+        return result;
+    }
+
+    public Map<K, V> asJava() {
+        final Map<K, V> javaMap = new LinkedHashMap<>();
+        for (Tuple2<K, V> entry : this) {
+            javaMap.put(entry._1(), entry._2());
+        }
+        return javaMap;
+    }
+
+    @Override
+    public Iterator<Tuple2<K, V>> iterator() {
+        return new NodeIterator<>(root);
+    }
+
+    @Override
+    public <U> U foldLeft(U zero, BiFunction<? super U, ? super Tuple2<K, V>, ? extends U> func) {
+        U result = zero;
+        for (Tuple2<K, V> entry : this) {
+            result = func.apply(result, entry);
+        }
+        return result;
+    }
+
+    @Override
+    public <U> U foldRight(U zero, BiFunction<? super Tuple2<K, V>, ? super U, ? extends U> func) {
+        List<Tuple2<K, V>> reversed = List.nil();
+        for (Tuple2<K, V> entry : this) {
+            reversed = reversed.prepend(entry);
+        }
+        return reversed.foldLeft(zero, (acc, v) -> func.apply(v, acc));
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+        @SuppressWarnings("unchecked")
+        HashMap<K, Object> map = (HashMap<K, Object>) that;
+        if (size != map.size || keyHash != map.keyHash) return false;
+        for (Tuple2<K, V> entry : this) {
+            final Tuple2<K, Object> other = map.root.find(entry._1(), hash(entry._1()), 0, keyHash);
+            if (other == null || !Objects.equals(entry._2(), other._2())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (Tuple2<K, V> entry : this) {
+            hashCode += keyHash.hash(entry._1()) ^ Objects.hashCode(entry._2());
+        }
+        return hashCode;
+    }
+
+    private static final class Delta {
+        private boolean added;
+    }
+
+    private abstract static class Node<K, V> implements Serializable {
+
+        abstract Tuple2<K, V> find(K key, int hash, int shift, Eq<K> keyEq);
+
+        abstract Node<K, V> put(Tuple2<K, V> entry, int hash, int shift, Delta delta, Hash<K> keyHash);
+
+        abstract Node<K, V> remove(K key, int hash, int shift, Eq<K> keyEq);
+
+        abstract Object[] slots();
+
+        static <K, V> Node<K, V> merge(Tuple2<K, V> first, int firstHash, Tuple2<K, V> second, int secondHash, int shift) {
+            if (shift >= Integer.SIZE || firstHash == secondHash) {
+                return new CollisionNode<>(firstHash, new Object[]{first, second});
+            }
+            final int firstIndex = (firstHash >>> shift) & MASK;
+            final int secondIndex = (secondHash >>> shift) & MASK;
+            if (firstIndex == secondIndex) {
+                return new BitmapNode<>(
+                    1 << firstIndex,
+                    new Object[]{merge(first, firstHash, second, secondHash, shift + BITS)}
+                );
+            }
+            return new BitmapNode<>(
+                (1 << firstIndex) | (1 << secondIndex),
+                firstIndex < secondIndex ? new Object[]{first, second} : new Object[]{second, first}
+            );
+        }
+    }
+
+    private static final class BitmapNode<K, V> extends Node<K, V> {
+
+        private static final BitmapNode<?, ?> EMPTY = new BitmapNode<>(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] slots;
+
+        private BitmapNode(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <K, V> BitmapNode<K, V> empty() {
+            return (BitmapNode<K, V>) EMPTY;
+        }
+
+        @Override
+        Object[] slots() {
+            return slots;
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Tuple2<K, V> find(K key, int hash, int shift, Eq<K> keyEq) {
+            final int bit = 1 << ((hash >>> shift) & MASK);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            final Object slot = slots[index(bit)];
+            if (slot instanceof Node) {
+                return ((Node<K, V>) slot).find(key, hash, shift + BITS, keyEq);
+            }
+            final Tuple2<K, V> entry = (Tuple2<K, V>) slot;
+            return keyEq.eq(entry._1(), key) ? entry : null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Node<K, V> put(Tuple2<K, V> entry, int hash, int shift, Delta delta, Hash<K> keyHash) {
+            final int bit = 1 << ((hash >>> shift) & MASK);
+            final int index = index(bit);
+            if ((bitmap & bit) == 0) {
+                final Object[] newSlots = new Object[slots.length + 1];
+                System.arraycopy(slots, 0, newSlots, 0, index);
+                newSlots[index] = entry;
+                System.arraycopy(slots, index, newSlots, index + 1, slots.length - index);
+                delta.added = true;
+                return new BitmapNode<>(bitmap | bit, newSlots);
+            }
+            final Object slot = slots[index];
+            final Object newSlot;
+            if (slot instanceof Node) {
+                final Node<K, V> child = (Node<K, V>) slot;
+                newSlot = child.put(entry, hash, shift + BITS, delta, keyHash);
+                if (newSlot == child) {
+                    return this;
+                }
+            } else {
+                final Tuple2<K, V> current = (Tuple2<K, V>) slot;
+                if (keyHash.eq(current._1(), entry._1())) {
+                    if (current._2() == entry._2()) {
+                        return this;
+                    }
+                    newSlot = entry;
+                } else {
+                    newSlot = merge(current, spread(keyHash.hash(current._1())), entry, hash, shift + BITS);
+                    delta.added = true;
+                }
+            }
+            final Object[] newSlots = slots.clone();
+            newSlots[index] = newSlot;
+            return new BitmapNode<>(bitmap, newSlots);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Node<K, V> remove(K key, int hash, int shift, Eq<K> keyEq) {
+            final int bit = 1 << ((hash >>> shift) & MASK);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            final int index = index(bit);
+            final Object slot = slots[index];
+            if (slot instanceof Node) {
+                final Node<K, V> child = (Node<K, V>) slot;
+                final Node<K, V> newChild = child.remove(key, hash, shift + BITS, keyEq);
+                if (newChild == child) {
+                    return this;
+                }
+                if (newChild == null) {
+                    return without(bit, index);
+                }
+                final Object[] childSlots = newChild.slots();
+                final Object newSlot = childSlots.length == 1 && !(childSlots[0] instanceof Node)
+                    ? childSlots[0]
+                    : newChild;
+                final Object[] newSlots = slots.clone();
+                newSlots[index] = newSlot;
+                return new BitmapNode<>(bitmap, newSlots);
+            }
+            final Tuple2<K, V> entry = (Tuple2<K, V>) slot;
+            return keyEq.eq(entry._1(), key) ? without(bit, index) : this;
+        }
+
+        private Node<K, V> without(int bit, int index) {
+            if (slots.length == 1) {
+                return null;
+            }
+            final Object[] newSlots = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, newSlots, 0, index);
+            System.arraycopy(slots, index + 1, newSlots, index, slots.length - index - 1);
+            return new BitmapNode<>(bitmap & ~bit, newSlots);
+        }
+    }
+
+    private static final class CollisionNode<K, V> extends Node<K, V> {
+
+        private final int hash;
+        private final Object[] entries;
+
+        private CollisionNode(int hash, Object[] entries) {
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        @Override
+        Object[] slots() {
+            return entries;
+        }
+
+        @SuppressWarnings("unchecked")
+        private int indexOf(K key, Eq<K> keyEq) {
+            for (int i = 0; i < entries.length; i++) {
+                if (keyEq.eq(((Tuple2<K, V>) entries[i])._1(), key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Tuple2<K, V> find(K key, int hash, int shift, Eq<K> keyEq) {
+            if (hash != this.hash) {
+                return null;
+            }
+            final int index = indexOf(key, keyEq);
+            return index < 0 ? null : (Tuple2<K, V>) entries[index];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Node<K, V> put(Tuple2<K, V> entry, int hash, int shift, Delta delta, Hash<K> keyHash) {
+            if (hash != this.hash) {
+                final BitmapNode<K, V> self = new BitmapNode<>(1 << ((this.hash >>> shift) & MASK), new Object[]{this});
+                return self.put(entry, hash, shift, delta, keyHash);
+            }
+            final int index = indexOf(entry._1(), keyHash);
+            if (index < 0) {
+                final Object[] newEntries = new Object[entries.length + 1];
+                System.arraycopy(entries, 0, newEntries, 0, entries.length);
+                newEntries[entries.length] = entry;
+                delta.added = true;
+                return new CollisionNode<>(hash, newEntries);
+            }
+            if (((Tuple2<K, V>) entries[index])._2() == entry._2()) {
+                return this;
+            }
+            final Object[] newEntries = entries.clone();
+            newEntries[index] = entry;
+            return new CollisionNode<>(hash, newEntries);
+        }
+
+        @Override
+        Node<K, V> remove(K key, int hash, int shift, Eq<K> keyEq) {
+            if (hash != this.hash) {
+                return this;
+            }
+            final int index = indexOf(key, keyEq);
+            if (index < 0) {
+                return this;
+            }
+            if (entries.length == 1) {
+                return null;
+            }
+            final Object[] newEntries = new Object[entries.length - 1];
+            System.arraycopy(entries, 0, newEntries, 0, index);
+            System.arraycopy(entries, index + 1, newEntries, index, entries.length - index - 1);
+            return new CollisionNode<>(hash, newEntries);
+        }
+    }
+
+    private static final class NodeIterator<K, V> implements Iterator<Tuple2<K, V>> {
+
+        private final Object[][] stack = new Object[Integer.SIZE / BITS + 2][];
+        private final int[] positions = new int[Integer.SIZE / BITS + 2];
+        private int depth;
+        private Tuple2<K, V> next;
+
+        private NodeIterator(Node<K, V> root) {
+            stack[0] = root.slots();
+            advance();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            next = null;
+            while (depth >= 0) {
+                final Object[] slots = stack[depth];
+                if (positions[depth] == slots.length) {
+                    depth--;
+                    continue;
+                }
+                final Object slot = slots[positions[depth]++];
+                if (slot instanceof Node) {
+                    depth++;
+                    stack[depth] = ((Node<K, V>) slot).slots();
+                    positions[depth] = 0;
+                } else {
+                    next = (Tuple2<K, V>) slot;
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Tuple2<K, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            final Tuple2<K, V> result = next;
+            advance();
+            return result;
+        }
+    }
+}
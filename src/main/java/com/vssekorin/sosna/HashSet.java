@@ -0,0 +1,201 @@
+package com.vssekorin.sosna;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+public final class HashSet<T> implements Iterable<T>, Foldable<T>, Ext<HashSet<T>>, Serializable {
+
+    static final int LINEAR_SCAN_LIMIT = 8;
+
+    private static final HashSet<?> EMPTY = new HashSet<>(HashMap.empty());
+
+    private final HashMap<T, T> map;
+
+    private HashSet(HashMap<T, T> map) {
+        this.map = map;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> HashSet<T> empty() {
+        return (HashSet<T>) EMPTY;
+    }
+
+    public static <T> HashSet<T> empty(Hash<T> hash) {
+        return hash == Hash.objectHash ? empty() : new HashSet<>(HashMap.empty(hash));
+    }
+
+    public static <T> HashSet<T> of(T value) {
+        return HashSet.<T>empty().add(value);
+    }
+
+    @SafeVarargs
+    public static <T> HashSet<T> of(T... values) {
+        HashSet<T> result = empty();
+        for (T value : values) {
+            result = result.add(value);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> HashSet<T> ofAll(Iterable<? extends T> values) {
+        if (values instanceof HashSet && ((HashSet<T>) values).hash() == Hash.objectHash) {
+            return (HashSet<T>) values;
+        }
+        return HashSet.<T>empty().addAll(values);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> HashSet<T> ofAll(Hash<T> hash, Iterable<? extends T> values) {
+        if (values instanceof HashSet && ((HashSet<T>) values).hash() == hash) {
+            return (HashSet<T>) values;
+        }
+        return empty(hash).addAll(values);
+    }
+
+    private HashSet<T> wrap(HashMap<T, T> newMap) {
+        if (newMap == map) {
+            return this;
+        }
+        return newMap.isEmpty() ? empty(newMap.keyHash()) : new HashSet<>(newMap);
+    }
+
+    public Hash<T> hash() {
+        return map.keyHash();
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    public boolean nonEmpty() {
+        return map.nonEmpty();
+    }
+
+    public boolean contains(T value) {
+        return map.containsKey(value);
+    }
+
+    public boolean containsAll(Iterable<? extends T> values) {
+        for (T value : values) {
+            if (!contains(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean containsAny(Iterable<? extends T> values) {
+        for (T value : values) {
+            if (contains(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public HashSet<T> add(T value) {
+        return map.containsKey(value) ? this : wrap(map.put(value, value));
+    }
+
+    public HashSet<T> addAll(Iterable<? extends T> values) {
+        HashSet<T> result = this;
+        for (T value : values) {
+            result = result.add(value);
+        }
+        return result;
+    }
+
+    public HashSet<T> remove(T value) {
+        return wrap(map.remove(value));
+    }
+
+    public HashSet<T> removeAll(Iterable<? extends T> values) {
+        HashMap<T, T> result = map;
+        for (T value : values) {
+            result = result.remove(value);
+        }
+        return wrap(result);
+    }
+
+    public HashSet<T> union(HashSet<T> other) {
+        return size() >= other.size() || hash() != other.hash() ? addAll(other) : other.addAll(this);
+    }
+
+    public HashSet<T> intersect(HashSet<T> other) {
+        HashMap<T, T> result = map;
+        for (T value : this) {
+            if (!other.contains(value)) {
+                result = result.remove(value);
+            }
+        }
+        return wrap(result);
+    }
+
+    public HashSet<T> diff(HashSet<T> other) {
+        return removeAll(other);
+    }
+
+    public List<T> toList() {
+        return map.keys();
+    }
+
+    public Set<T> asJava() {
+        final Set<T> javaSet = new LinkedHashSet<>();
+        for (T value : this) {
+            javaSet.add(value);
+        }
+        return javaSet;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        final Iterator<Tuple2<T, T>> entries = map.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return entries.next()._1();
+            }
+        };
+    }
+
+    @Override
+    public <U> U foldLeft(U zero, BiFunction<? super U, ? super T, ? extends U> func) {
+        return map.foldLeft(zero, (acc, entry) -> func.apply(acc, entry._1()));
+    }
+
+    @Override
+    public <U> U foldRight(U zero, BiFunction<? super T, ? super U, ? extends U> func) {
+        return map.foldRight(zero, (entry, acc) -> func.apply(entry._1(), acc));
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+        @SuppressWarnings("unchecked")
+        HashSet<T> set = (HashSet<T>) that;
+        return size() == set.size() && hash() == set.hash() && set.containsAll(this);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (T value : this) {
+            hashCode += hash().hash(value);
+        }
+        return hashCode;
+    }
+}
@@ -0,0 +1,126 @@
+package com.vssekorin.sosna;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+final class Hashes {
+
+    private Hashes() {
+    }
+
+    static final class Of<T> implements Hash<T> {
+
+        private final Eq<T> equiv;
+        private final ToIntFunction<? super T> hash;
+
+        Of(Eq<T> equiv, ToIntFunction<? super T> hash) {
+            this.equiv = equiv;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean eq(T x, T y) {
+            return equiv.eq(x, y);
+        }
+
+        @Override
+        public int hash(T x) {
+            return hash.applyAsInt(x);
+        }
+    }
+
+    static final class By<T, K> implements Hash<T> {
+
+        private final Function<? super T, ? extends K> key;
+        private final Hash<K> hash;
+
+        By(Function<? super T, ? extends K> key, Hash<K> hash) {
+            this.key = key;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean eq(T x, T y) {
+            return hash.eq(key.apply(x), key.apply(y));
+        }
+
+        @Override
+        public int hash(T x) {
+            return hash.hash(key.apply(x));
+        }
+    }
+
+    static final class ObjectHash implements Hash<Object> {
+
+        static final ObjectHash INSTANCE = new ObjectHash();
+
+        private ObjectHash() {
+        }
+
+        @Override
+        public boolean eq(Object x, Object y) {
+            return Objects.equals(x, y);
+        }
+
+        @Override
+        public int hash(Object x) {
+            return Objects.hashCode(x);
+        }
+
+        private Object readResolve() {
+            return INSTANCE;
+        }
+    }
+
+    static final class RefHash implements Hash<Object> {
+
+        static final RefHash INSTANCE = new RefHash();
+
+        private RefHash() {
+        }
+
+        @Override
+        public boolean eq(Object x, Object y) {
+            return x == y;
+        }
+
+        @Override
+        public int hash(Object x) {
+            return System.identityHashCode(x);
+        }
+
+        private Object readResolve() {
+            return INSTANCE;
+        }
+    }
+
+    static final class IgnoreCase implements Hash<String> {
+
+        static final IgnoreCase INSTANCE = new IgnoreCase();
+
+        private IgnoreCase() {
+        }
+
+        @Override
+        public boolean eq(String x, String y) {
+            return x == null ? y == null : x.equalsIgnoreCase(y);
+        }
+
+        @Override
+        public int hash(String str) {
+            if (str == null) {
+                return 0;
+            }
+            int hashCode = 0;
+            for (int i = 0; i < str.length(); i++) {
+                hashCode = 31 * hashCode + Character.toLowerCase(Character.toUpperCase(str.charAt(i)));
+            }
+            return hashCode;
+        }
+
+        private Object readResolve() {
+            return INSTANCE;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.vssekorin.sosna;
+
+import java.io.Serializable;
+
+public final class HyperLogLog implements Serializable {
+
+    private final int precision;
+    private final byte[] registers;
+    private final long hash;
+
+    private HyperLogLog(int precision, byte[] registers, long hash) {
+        this.precision = precision;
+        this.registers = registers;
+        this.hash = hash;
+    }
+
+    public static HyperLogLog of(Object value) {
+        return ofHash(Sketches.hash64(value));
+    }
+
+    public static HyperLogLog ofHash(long hash) {
+        return new HyperLogLog(0, null, hash);
+    }
+
+    public long estimate() {
+        if (registers == null) {
+            return 1;
+        }
+        final int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += Math.scalb(1.0, -register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        final double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            return Math.round(m * Math.log((double) m / zeros));
+        }
+        return Math.round(estimate);
+    }
+
+    private static double alpha(int m) {
+        switch (m) {
+            case 16: return 0.673;
+            case 32: return 0.697;
+            case 64: return 0.709;
+            default: return 0.7213 / (1 + 1.079 / m);
+        }
+    }
+
+    private static void add(byte[] registers, int precision, long hash) {
+        final int index = (int) (hash >>> (Long.SIZE - precision));
+        final int rank = Math.min(Long.numberOfLeadingZeros(hash << precision), Long.SIZE - precision) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    private void mergeInto(byte[] target, int targetPrecision) {
+        if (registers == null) {
+            add(target, targetPrecision, hash);
+            return;
+        }
+        if (precision != targetPrecision) {
+            throw new IllegalArgumentException("Cannot merge HyperLogLog with precision " + precision + " into " + targetPrecision);
+        }
+        for (int i = 0; i < target.length; i++) {
+            if (registers[i] > target[i]) {
+                target[i] = registers[i];
+            }
+        }
+    }
+
+    static final class Merging implements Monoid<HyperLogLog>, Accumulating<HyperLogLog, byte[]> {
+
+        private final int precision;
+        private final HyperLogLog empty;
+
+        Merging(int precision) {
+            if (precision < 4 || precision > 18) {
+                throw new IllegalArgumentException("HyperLogLog precision must be in [4, 18]: " + precision);
+            }
+            this.precision = precision;
+            this.empty = new HyperLogLog(precision, new byte[1 << precision], 0);
+        }
+
+        @Override
+        public HyperLogLog empty() {
+            return empty;
+        }
+
+        @Override
+        public HyperLogLog combine(HyperLogLog x, HyperLogLog y) {
+            final byte[] acc = supply();
+            accumulate(acc, x);
+            accumulate(acc, y);
+            return finish(acc);
+        }
+
+        @Override
+        public byte[] supply() {
+            return new byte[1 << precision];
+        }
+
+        @Override
+        public void accumulate(byte[] acc, HyperLogLog value) {
+            value.mergeInto(acc, precision);
+        }
+
+        @Override
+        public HyperLogLog finish(byte[] acc) {
+            return new HyperLogLog(precision, acc, 0);
+        }
+    }
+}
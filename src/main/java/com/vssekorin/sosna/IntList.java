@@ -0,0 +1,281 @@
+package com.vssekorin.sosna;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+public final class IntList implements Iterable<Integer>, Ext<IntList>, Serializable {
+
+    private static final IntList EMPTY = new IntList(new int[0]);
+
+    private final int[] values;
+
+    private IntList(int[] values) {
+        this.values = values;
+    }
+
+    static IntList wrap(int[] values) {
+        return values.length == 0 ? EMPTY : new IntList(values);
+    }
+
+    public static IntList empty() {
+        return EMPTY;
+    }
+
+    public static IntList of(int... values) {
+        return wrap(values.clone());
+    }
+
+    public static IntList ofAll(Iterable<Integer> values) {
+        if (values instanceof IntList) {
+            return (IntList) values;
+        }
+        int[] array = new int[16];
+        int size = 0;
+        for (Integer value : values) {
+            if (size == array.length) {
+                array = Arrays.copyOf(array, size << 1);
+            }
+            array[size++] = value;
+        }
+        return wrap(Arrays.copyOf(array, size));
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    public boolean nonEmpty() {
+        return values.length != 0;
+    }
+
+    public int head() {
+        if (values.length == 0) {
+            throw new NoSuchElementException("head() of empty list");
+        }
+        return values[0];
+    }
+
+    public IntList tail() {
+        if (values.length == 0) {
+            throw new UnsupportedOperationException("tail() of empty list");
+        }
+        return wrap(Arrays.copyOfRange(values, 1, values.length));
+    }
+
+    public int last() {
+        if (values.length == 0) {
+            throw new NoSuchElementException("last() of empty list");
+        }
+        return values[values.length - 1];
+    }
+
+    public int get(int n) {
+        if (n < 0) {
+            throw new IndexOutOfBoundsException("get(): n is negative");
+        }
+        if (n >= values.length) {
+            throw new IndexOutOfBoundsException("get(): n is more than length");
+        }
+        return values[n];
+    }
+
+    public boolean contains(int value) {
+        for (int cur : values) {
+            if (cur == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public IntList prepend(int value) {
+        final int[] result = new int[values.length + 1];
+        result[0] = value;
+        System.arraycopy(values, 0, result, 1, values.length);
+        return new IntList(result);
+    }
+
+    public IntList append(int value) {
+        final int[] result = Arrays.copyOf(values, values.length + 1);
+        result[values.length] = value;
+        return new IntList(result);
+    }
+
+    public IntList appendAll(IntList other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        final int[] result = Arrays.copyOf(values, values.length + other.values.length);
+        System.arraycopy(other.values, 0, result, values.length, other.values.length);
+        return new IntList(result);
+    }
+
+    public IntList with(int pos, int value) {
+        if (pos < 0 || pos >= values.length) {
+            throw new IndexOutOfBoundsException("with() with pos = " + pos);
+        }
+        final int[] result = values.clone();
+        result[pos] = value;
+        return new IntList(result);
+    }
+
+    public IntList reverse() {
+        final int[] result = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[values.length - 1 - i] = values[i];
+        }
+        return wrap(result);
+    }
+
+    public IntList take(int n) {
+        return n >= values.length ? this : wrap(Arrays.copyOf(values, Math.max(n, 0)));
+    }
+
+    public IntList takeRight(int n) {
+        return n >= values.length
+            ? this
+            : wrap(Arrays.copyOfRange(values, values.length - Math.max(n, 0), values.length));
+    }
+
+    public IntList map(IntUnaryOperator mapper) {
+        final int[] result = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = mapper.applyAsInt(values[i]);
+        }
+        return wrap(result);
+    }
+
+    public <U> List<U> mapToObj(IntFunction<? extends U> mapper) {
+        final ListBuilder<U> result = new ListBuilder<>();
+        for (int value : values) {
+            result.add(mapper.apply(value));
+        }
+        return result.build();
+    }
+
+    public IntList filter(IntPredicate predicate) {
+        final int[] result = new int[values.length];
+        int size = 0;
+        for (int value : values) {
+            if (predicate.test(value)) {
+                result[size++] = value;
+            }
+        }
+        return size == values.length ? this : wrap(Arrays.copyOf(result, size));
+    }
+
+    public boolean all(IntPredicate predicate) {
+        for (int value : values) {
+            if (!predicate.test(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean any(IntPredicate predicate) {
+        for (int value : values) {
+            if (predicate.test(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int foldLeft(int zero, IntBinaryOperator func) {
+        int result = zero;
+        for (int value : values) {
+            result = func.applyAsInt(result, value);
+        }
+        return result;
+    }
+
+    public int foldRight(int zero, IntBinaryOperator func) {
+        int result = zero;
+        for (int i = values.length - 1; i >= 0; i--) {
+            result = func.applyAsInt(values[i], result);
+        }
+        return result;
+    }
+
+    public int fold(IntMonoid monoid) {
+        int result = monoid.empty();
+        for (int value : values) {
+            result = monoid.combine(result, value);
+        }
+        return result;
+    }
+
+    public int reduce(IntSemigroup semigroup) {
+        if (values.length == 0) {
+            throw new NoSuchElementException("reduce of empty list");
+        }
+        int result = values[0];
+        for (int i = 1; i < values.length; i++) {
+            result = semigroup.combine(result, values[i]);
+        }
+        return result;
+    }
+
+    public int sum() {
+        return fold(IntMonoid.sum);
+    }
+
+    public List<Integer> boxed() {
+        return mapToObj(Integer::valueOf);
+    }
+
+    public int[] toArray() {
+        return values.clone();
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(values);
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < values.length;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return values[index++];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+        return Arrays.equals(values, ((IntList) that).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+}
@@ -0,0 +1,26 @@
+package com.vssekorin.sosna;
+
+public interface IntMonoid extends IntSemigroup {
+
+    int empty();
+
+    IntMonoid sum = new IntMonoid() {
+        @Override public int empty() { return 0; }
+        @Override public int combine(int x, int y) { return x + y; }
+    };
+
+    IntMonoid prod = new IntMonoid() {
+        @Override public int empty() { return 1; }
+        @Override public int combine(int x, int y) { return x * y; }
+    };
+
+    IntMonoid min = new IntMonoid() {
+        @Override public int empty() { return Integer.MAX_VALUE; }
+        @Override public int combine(int x, int y) { return Math.min(x, y); }
+    };
+
+    IntMonoid max = new IntMonoid() {
+        @Override public int empty() { return Integer.MIN_VALUE; }
+        @Override public int combine(int x, int y) { return Math.max(x, y); }
+    };
+}
@@ -0,0 +1,12 @@
+package com.vssekorin.sosna;
+
+@FunctionalInterface
+public interface IntSemigroup {
+
+    int combine(int x, int y);
+
+    IntSemigroup sum = (x, y) -> x + y;
+    IntSemigroup prod = (x, y) -> x * y;
+    IntSemigroup min = Math::min;
+    IntSemigroup max = Math::max;
+}
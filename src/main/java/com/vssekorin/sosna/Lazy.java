@@ -1,25 +1,44 @@
 package com.vssekorin.sosna;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 public final class Lazy<T> implements Supplier<T>, Functor<T>, Ext<Lazy<T>>, Serializable {
 
-    private transient volatile Supplier<? extends T> supplier;
-    private volatile T value;
+    private static final VarHandle STATE;
 
-    private Lazy() {
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(Lazy.class, "state", Object.class);
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
     }
 
+    private static final Object NONE = new Object();
+
+    private transient volatile Object state;
+
     private Lazy(Supplier<? extends T> supplier) {
         this(supplier, null);
     }
 
+    private Lazy(Unevaluated step) {
+        this.state = step;
+    }
+
     public Lazy(Supplier<? extends T> supplier, T value) {
-        this.supplier = supplier;
-        this.value = value;
+        this.state = supplier == null ? value : new Pending(supplier);
     }
 
     @SuppressWarnings("unchecked")
@@ -39,21 +58,85 @@ public final class Lazy<T> implements Supplier<T>, Functor<T>, Ext<Lazy<T>>, Ser
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <U> Lazy<U> map(Function<T, ? extends U> mapper) {
-        return new Lazy<>(() -> mapper.apply(get()));
+        return new Lazy<>(new Mapped(this, (Function<Object, ?>) mapper));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <U> Lazy<U> flatMap(Function<? super T, ? extends Lazy<? extends U>> binder) {
+        return new Lazy<>(new FlatMapped(this, (Function<Object, ? extends Lazy<?>>) binder));
+    }
+
+    public <U> Lazy<Tuple2<T, U>> zip(Lazy<? extends U> that) {
+        return zipWith(that, Tuple2::new);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <U, R> Lazy<R> zipWith(Lazy<? extends U> that, BiFunction<? super T, ? super U, ? extends R> combiner) {
+        return new Lazy<>(new Zipped(this, that, (BiFunction<Object, Object, ?>) combiner));
+    }
+
+    public boolean isEvaluated() {
+        return !(state instanceof Unevaluated);
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public T get() {
-        return supplier == null ? value : compute();
+        final Object current = state;
+        if (current instanceof Unevaluated) {
+            return compute(current);
+        }
+        return (T) current;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T compute(Object current) {
+        while (true) {
+            if (current instanceof InFlight) {
+                ((InFlight) current).await(this);
+            } else if (current instanceof Unevaluated) {
+                final InFlight flight = new InFlight(Thread.currentThread());
+                if (STATE.compareAndSet(this, current, flight)) {
+                    if (isPlain(current)) {
+                        return (T) evaluate((Pending) current, flight);
+                    }
+                    return (T) new Evaluation(flight).run(this, (Unevaluated) current);
+                }
+            } else {
+                return (T) current;
+            }
+            current = state;
+        }
     }
 
-    private synchronized T compute() {
-        if (supplier != null) {
-            value = supplier.get();
-            supplier = null;
+    private static boolean isPlain(Object step) {
+        return step instanceof Pending && !(((Pending) step).supplier instanceof Lazy);
+    }
+
+    private Object evaluate(Pending pending, InFlight flight) {
+        final Object result;
+        try {
+            result = pending.supplier.get();
+        } catch (Throwable ex) {
+            state = pending;
+            flight.release();
+            throw ex;
         }
-        return value;
+        state = result;
+        flight.release();
+        return result;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(get());
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        state = in.readObject();
     }
 
     @Override
@@ -68,4 +151,235 @@ public final class Lazy<T> implements Supplier<T>, Functor<T>, Ext<Lazy<T>>, Ser
     public int hashCode() {
         return Objects.hash(get());
     }
+
+    private abstract static class Unevaluated {
+    }
+
+    private static final class Pending extends Unevaluated {
+
+        private final Supplier<?> supplier;
+
+        private Pending(Supplier<?> supplier) {
+            this.supplier = supplier;
+        }
+    }
+
+    private static final class Mapped extends Unevaluated {
+
+        private final Lazy<?> source;
+        private final Function<Object, ?> mapper;
+
+        private Mapped(Lazy<?> source, Function<Object, ?> mapper) {
+            this.source = source;
+            this.mapper = mapper;
+        }
+    }
+
+    private static final class FlatMapped extends Unevaluated {
+
+        private final Lazy<?> source;
+        private final Function<Object, ? extends Lazy<?>> binder;
+
+        private FlatMapped(Lazy<?> source, Function<Object, ? extends Lazy<?>> binder) {
+            this.source = source;
+            this.binder = binder;
+        }
+    }
+
+    private static final class Zipped extends Unevaluated {
+
+        private final Lazy<?> first;
+        private final Lazy<?> second;
+        private final BiFunction<Object, Object, ?> combiner;
+
+        private Zipped(Lazy<?> first, Lazy<?> second, BiFunction<Object, Object, ?> combiner) {
+            this.first = first;
+            this.second = second;
+            this.combiner = combiner;
+        }
+    }
+
+    private static final class Phase {
+
+        private final Unevaluated step;
+        private Object first;
+        private boolean resumed;
+
+        private Phase(Unevaluated step) {
+            this.step = step;
+        }
+    }
+
+    private static final class Evaluation {
+
+        private final InFlight flight;
+        private Lazy<?>[] lazies = new Lazy<?>[16];
+        private Object[] steps = new Object[16];
+        private int depth;
+        private Lazy<?> request;
+
+        private Evaluation(InFlight flight) {
+            this.flight = flight;
+        }
+
+        private Object run(Lazy<?> root, Unevaluated step) {
+            try {
+                Object value = enter(root, step);
+                while (true) {
+                    if (value != NONE) {
+                        if (depth == 0) {
+                            flight.release();
+                            return value;
+                        }
+                        value = resume(value);
+                        continue;
+                    }
+                    final Lazy<?> dependency = request;
+                    request = null;
+                    Object current = dependency.state;
+                    while (true) {
+                        if (current instanceof InFlight || !(current instanceof Unevaluated)) {
+                            value = dependency.get();
+                            break;
+                        }
+                        if (STATE.compareAndSet(dependency, current, flight)) {
+                            value = enter(dependency, (Unevaluated) current);
+                            break;
+                        }
+                        current = dependency.state;
+                    }
+                }
+            } catch (Throwable ex) {
+                for (int i = 0; i < depth; i++) {
+                    final Object saved = steps[i];
+                    lazies[i].state = saved instanceof Phase ? ((Phase) saved).step : saved;
+                }
+                flight.release();
+                throw ex;
+            }
+        }
+
+        private Object enter(Lazy<?> lazy, Unevaluated step) {
+            if (depth == lazies.length) {
+                lazies = Arrays.copyOf(lazies, depth << 1);
+                steps = Arrays.copyOf(steps, depth << 1);
+            }
+            lazies[depth] = lazy;
+            steps[depth++] = step instanceof FlatMapped || step instanceof Zipped ? new Phase(step) : step;
+            if (step instanceof Pending) {
+                final Supplier<?> supplier = ((Pending) step).supplier;
+                return supplier instanceof Lazy ? request((Lazy<?>) supplier) : complete(supplier.get());
+            }
+            if (step instanceof Mapped) {
+                return request(((Mapped) step).source);
+            }
+            if (step instanceof FlatMapped) {
+                return request(((FlatMapped) step).source);
+            }
+            return request(((Zipped) step).first);
+        }
+
+        private Object resume(Object input) {
+            final Object step = steps[depth - 1];
+            if (step instanceof Pending) {
+                return complete(input);
+            }
+            if (step instanceof Mapped) {
+                return complete(((Mapped) step).mapper.apply(input));
+            }
+            final Phase phase = (Phase) step;
+            final boolean resumed = phase.resumed;
+            phase.resumed = true;
+            if (phase.step instanceof FlatMapped) {
+                if (resumed) {
+                    return complete(input);
+                }
+                final Lazy<?> next = ((FlatMapped) phase.step).binder.apply(input);
+                return request(Objects.requireNonNull(next, "flatMap returned null"));
+            }
+            final Zipped zipped = (Zipped) phase.step;
+            if (resumed) {
+                return complete(zipped.combiner.apply(phase.first, input));
+            }
+            phase.first = input;
+            return request(zipped.second);
+        }
+
+        private Object request(Lazy<?> dependency) {
+            request = dependency;
+            return NONE;
+        }
+
+        private Object complete(Object value) {
+            depth--;
+            lazies[depth].state = value;
+            lazies[depth] = null;
+            steps[depth] = null;
+            return value;
+        }
+    }
+
+    private static final class InFlight extends Unevaluated {
+
+        private static final VarHandle WAITERS;
+        private static final Waiter RELEASED = new Waiter(null);
+
+        static {
+            try {
+                WAITERS = MethodHandles.lookup().findVarHandle(InFlight.class, "waiters", Waiter.class);
+            } catch (ReflectiveOperationException ex) {
+                throw new ExceptionInInitializerError(ex);
+            }
+        }
+
+        private final Thread owner;
+        private volatile Waiter waiters;
+
+        private InFlight(Thread owner) {
+            this.owner = owner;
+        }
+
+        private void await(Lazy<?> lazy) {
+            if (owner == Thread.currentThread()) {
+                throw new IllegalStateException("Lazy value depends on itself");
+            }
+            final Waiter node = new Waiter(Thread.currentThread());
+            Waiter head;
+            do {
+                head = waiters;
+                if (head == RELEASED) {
+                    return;
+                }
+                node.next = head;
+            } while (!WAITERS.compareAndSet(this, head, node));
+            boolean interrupted = false;
+            while (lazy.state == this) {
+                LockSupport.park(this);
+                interrupted |= Thread.interrupted();
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void release() {
+            if (waiters == null) {
+                return;
+            }
+            Waiter head = (Waiter) WAITERS.getAndSet(this, RELEASED);
+            for (; head != null; head = head.next) {
+                LockSupport.unpark(head.thread);
+            }
+        }
+    }
+
+    private static final class Waiter {
+
+        private final Thread thread;
+        private Waiter next;
+
+        private Waiter(Thread thread) {
+            this.thread = thread;
+        }
+    }
 }
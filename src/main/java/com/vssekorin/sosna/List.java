@@ -1,8 +1,15 @@
 package com.vssekorin.sosna;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
@@ -19,13 +26,7 @@ public sealed abstract class List<T> implements Seq<T>, Ext<List<T>> permits Nil
     }
 
     @Override
-    public int size() {
-        int size = 0;
-        for (List<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
-            size++;
-        }
-        return size;
-    }
+    public abstract int size();
 
     @Override
     public abstract T head();
@@ -45,18 +46,27 @@ public sealed abstract class List<T> implements Seq<T>, Ext<List<T>> permits Nil
         return javaList;
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ListSpliterator<>(this, size());
+    }
+
     @Override
     public List<T> prepend(T value) {
         return new Cons<>(value, this);
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public List<T> prependAll(Iterable<? extends T> values) {
-        List<T> result = this;
-        for (T value : List.ofAll(values).reverse()) {
-            result = result.prepend(value);
+        if (isEmpty() && values instanceof List) {
+            return (List<T>) values;
         }
-        return result;
+        final ListBuilder<T> prefix = new ListBuilder<>();
+        for (T value : values) {
+            prefix.add(value);
+        }
+        return prefix.build(this);
     }
 
     @Override
@@ -93,11 +103,11 @@ public sealed abstract class List<T> implements Seq<T>, Ext<List<T>> permits Nil
     }
 
     static <T> List<T> ofAll(Iterable<? extends T> values) {
-        List<T> result = nil();
+        final ListBuilder<T> builder = new ListBuilder<>();
         for (T value : values) {
-            result = new Cons<>(value, result);
+            builder.add(value);
         }
-        return result.reverse();
+        return builder.build();
     }
 
     static <T> List<T> replicate(int n, T value) {
@@ -108,6 +118,75 @@ public sealed abstract class List<T> implements Seq<T>, Ext<List<T>> permits Nil
         return result;
     }
 
+    @SafeVarargs
+    public static <T> List<T> mergeSorted(Comparator<? super T> comparator, List<? extends T>... lists) {
+        final PriorityQueue<MergeCursor<T>> heap = new PriorityQueue<>(
+            Math.max(lists.length, 1),
+            (x, y) -> {
+                final int cmp = comparator.compare(x.list.head(), y.list.head());
+                return cmp != 0 ? cmp : Integer.compare(x.index, y.index);
+            }
+        );
+        for (int i = 0; i < lists.length; i++) {
+            if (lists[i].nonEmpty()) {
+                heap.add(new MergeCursor<>(lists[i], i));
+            }
+        }
+        final ListBuilder<T> result = new ListBuilder<>();
+        while (heap.size() > 1) {
+            final MergeCursor<T> cursor = heap.poll();
+            result.add(cursor.list.head());
+            cursor.list = cursor.list.tail();
+            if (cursor.list.nonEmpty()) {
+                heap.add(cursor);
+            }
+        }
+        final MergeCursor<T> last = heap.poll();
+        @SuppressWarnings("unchecked")
+        final List<T> rest = last == null ? nil() : (List<T>) last.list;
+        return result.build(rest);
+    }
+
+    public List<T> sorted(Comparator<? super T> comparator) {
+        return sorted(comparator, false);
+    }
+
+    public <U extends Comparable<? super U>> List<T> sortBy(Function<? super T, ? extends U> key) {
+        return sorted(Comparator.comparing(key));
+    }
+
+    public List<T> parallelSorted(Comparator<? super T> comparator) {
+        return sorted(comparator, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> sorted(Comparator<? super T> comparator, boolean parallel) {
+        final Object[] values = new Object[size()];
+        boolean ordered = true;
+        int i = 0;
+        for (List<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
+            final T value = cur.head();
+            if (ordered && i > 0 && comparator.compare((T) values[i - 1], value) > 0) {
+                ordered = false;
+            }
+            values[i++] = value;
+        }
+        if (ordered) {
+            return this;
+        }
+        final Comparator<Object> cmp = (Comparator<Object>) comparator;
+        if (parallel) {
+            Arrays.parallelSort(values, cmp);
+        } else {
+            Arrays.sort(values, cmp);
+        }
+        List<T> result = nil();
+        for (int j = values.length - 1; j >= 0; j--) {
+            result = new Cons<>((T) values[j], result);
+        }
+        return result;
+    }
+
     @Override
     public List<T> reverse() {
         List<T> origin = this;
@@ -121,67 +200,57 @@ public sealed abstract class List<T> implements Seq<T>, Ext<List<T>> permits Nil
 
     @Override
     public List<T> insert(int pos, T value) {
-        List<T> result;
-        List<T> prefix = nil();
+        if (pos > size()) {
+            throw new IndexOutOfBoundsException("insert() with pos = " + pos);
+        }
+        final ListBuilder<T> prefix = new ListBuilder<>();
         List<T> cur = this;
         for (int i = 0; i < pos; i++, cur = cur.tail()) {
-            if (cur.isNil()) {
-                throw new IndexOutOfBoundsException("insert() with pos = " + pos);
-            }
-            prefix = new Cons<>(cur.head(), prefix);
-        }
-        result = new Cons<>(value, cur);
-        for (List<T> p = prefix; p.nonEmpty(); p = p.tail()) {
-            result = new Cons<>(p.head(), result);
+            prefix.add(cur.head());
         }
-        return result;
+        return prefix.build(new Cons<>(value, cur));
     }
 
     @Override
     public List<T> with(int pos, T value) {
-        List<T> result;
-        List<T> prefix = nil();
+        if (pos >= size()) {
+            throw new IndexOutOfBoundsException("with() with pos = " + pos);
+        }
+        final ListBuilder<T> prefix = new ListBuilder<>();
         List<T> cur = this;
         for (int i = 0; i < pos; i++, cur = cur.tail()) {
-            if (cur.isNil()) {
-                throw new IndexOutOfBoundsException("with() with pos = " + pos);
-            }
-            prefix = new Cons<>(cur.head(), prefix);
-        }
-        result = new Cons<>(value, cur.tail());
-        for (List<T> p = prefix; p.nonEmpty(); p = p.tail()) {
-            result = new Cons<>(p.head(), result);
+            prefix.add(cur.head());
         }
-        return result;
+        return prefix.build(new Cons<>(value, cur.tail()));
     }
 
     @Override
     public <U> List<U> map(Function<T, ? extends U> mapper) {
-        List<U> result = nil();
+        final ListBuilder<U> result = new ListBuilder<>();
         for (List<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
-            result = new Cons<>(mapper.apply(cur.head()), result);
+            result.add(mapper.apply(cur.head()));
         }
-        return result.reverse();
+        return result.build();
     }
 
     @Override
     public <U> List<U> mapIndexed(BiFunction<Integer, T, ? extends U> mapper) {
-        List<U> result = nil();
+        final ListBuilder<U> result = new ListBuilder<>();
         int i = 0;
         for (List<T> cur = this; cur.nonEmpty(); cur = cur.tail(), i++) {
-            result = new Cons<>(mapper.apply(i, cur.head()), result);
+            result.add(mapper.apply(i, cur.head()));
         }
-        return result.reverse();
+        return result.build();
     }
 
     @Override
     public List<T> mapIf(Predicate<? super T> condition, Function<? super T, ? extends T> f) {
-        List<T> result = nil();
+        final ListBuilder<T> result = new ListBuilder<>();
         for (List<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
             final T value = condition.test(cur.head()) ? f.apply(cur.head()) : cur.head();
-            result = new Cons<>(value, result);
+            result.add(value);
         }
-        return result.reverse();
+        return result.build();
     }
 
     @Override
@@ -190,51 +259,48 @@ public sealed abstract class List<T> implements Seq<T>, Ext<List<T>> permits Nil
         Function<? super T, ? extends U> thenF,
         Function<? super T, ? extends U> elseF
     ) {
-        List<U> result = nil();
+        final ListBuilder<U> result = new ListBuilder<>();
         for (List<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
             final U value = condition.test(cur.head()) ? thenF.apply(cur.head()) : elseF.apply(cur.head());
-            result = new Cons<>(value, result);
+            result.add(value);
         }
-        return result.reverse();
+        return result.build();
     }
 
     @Override
     public List<T> mapIfFirst(Predicate<? super T> condition, Function<? super T, ? extends T> f) {
-        boolean should = true;
-        List<T> result = nil();
+        final ListBuilder<T> prefix = new ListBuilder<>();
         for (List<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
-            if (should && condition.test(cur.head())) {
-                result = new Cons<>(f.apply(cur.head()), result);
-                should = false;
-            } else {
-                result = new Cons<>(cur.head(), result);
+            if (condition.test(cur.head())) {
+                return prefix.build(new Cons<>(f.apply(cur.head()), cur.tail()));
             }
+            prefix.add(cur.head());
         }
-        return result.reverse();
+        return this;
     }
 
     public <U> List<U> mapNotNull(Function<T, ? extends U> f) {
-        List<U> result = nil();
+        final ListBuilder<U> result = new ListBuilder<>();
         for (List<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
             U value = f.apply(cur.head());
             if (value != null) {
-                result = new Cons<>(value, result);
+                result.add(value);
             }
         }
-        return result.reverse();
+        return result.build();
     }
 
     @Override
     public <U> List<U> mapIndexedNotNull(BiFunction<Integer, T, ? extends U> f) {
-        List<U> result = nil();
+        final ListBuilder<U> result = new ListBuilder<>();
         int i = 0;
         for (List<T> cur = this; cur.nonEmpty(); cur = cur.tail(), i++) {
             U value = f.apply(i, cur.head());
             if (value != null) {
-                result = new Cons<>(value, result);
+                result.add(value);
             }
         }
-        return result.reverse();
+        return result.build();
     }
 
     @Override
@@ -254,26 +320,63 @@ public sealed abstract class List<T> implements Seq<T>, Ext<List<T>> permits Nil
 
     @Override
     public List<T> filterIndexed(BiPredicate<Integer, T> predicate) {
-        List<T> result = this;
-        List<T> left = nil();
+        final ListBuilder<T> prefix = new ListBuilder<>();
+        List<T> kept = this;
         int i = 0;
         for (List<T> cur = this; cur.nonEmpty(); cur = cur.tail(), i++) {
             if (!predicate.test(i, cur.head())) {
-                while (result != cur) {
-                    left = left.prepend(result.head());
-                    result = result.tail();
+                for (; kept != cur; kept = kept.tail()) {
+                    prefix.add(kept.head());
                 }
-                result = result.tail();
+                kept = cur.tail();
             }
         }
-        if (result == this) {
-            return this;
-        } else {
-            for (List<T> cur = left; cur.nonEmpty(); cur = cur.tail()) {
-                result = new Cons<>(cur.head(), result);
+        return kept == this ? this : prefix.build(kept);
+    }
+
+    @Override
+    public List<T> distinct() {
+        return distinct(Hash.objectHash());
+    }
+
+    @Override
+    public List<T> distinct(Hash<T> hash) {
+        HashSet<T> seen = HashSet.empty(hash);
+        final ListBuilder<T> prefix = new ListBuilder<>();
+        List<T> kept = this;
+        for (List<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
+            final HashSet<T> next = seen.add(cur.head());
+            if (next == seen) {
+                for (; kept != cur; kept = kept.tail()) {
+                    prefix.add(kept.head());
+                }
+                kept = cur.tail();
             }
-            return result;
+            seen = next;
         }
+        return kept == this ? this : prefix.build(kept);
+    }
+
+    @Override
+    public List<T> intersect(Iterable<? extends T> other) {
+        return intersect(Hash.objectHash(), other);
+    }
+
+    @Override
+    public List<T> intersect(Hash<T> hash, Iterable<? extends T> other) {
+        final HashSet<T> set = HashSet.ofAll(hash, other);
+        return filter(set::contains);
+    }
+
+    @Override
+    public List<T> diff(Iterable<? extends T> other) {
+        return diff(Hash.objectHash(), other);
+    }
+
+    @Override
+    public List<T> diff(Hash<T> hash, Iterable<? extends T> other) {
+        final HashSet<T> set = HashSet.ofAll(hash, other);
+        return filterNot(set::contains);
     }
 
     @Override
@@ -309,33 +412,31 @@ public sealed abstract class List<T> implements Seq<T>, Ext<List<T>> permits Nil
 
     @Override
     public List<T> take(int n) {
-        List<T> result = nil();
+        final ListBuilder<T> result = new ListBuilder<>();
         int i = 0;
         for (List<T> cur = this; i < n && cur.nonEmpty(); i++, cur = cur.tail()) {
-            result = new Cons<>(cur.head(), result);
+            result.add(cur.head());
         }
-        return result.reverse();
+        return result.build();
     }
 
     @Override
     public List<T> takeWhile(Predicate<T> cond) {
-        List<T> result = nil();
+        final ListBuilder<T> result = new ListBuilder<>();
         for (List<T> cur = this; cur.nonEmpty() && cond.test(cur.head()); cur = cur.tail()) {
-            result = new Cons<>(cur.head(), result);
+            result.add(cur.head());
         }
-        return result.reverse();
+        return result.build();
     }
 
     @Override
     public List<T> takeRight(int n) {
-        List<T> result = this;
-        List<T> cur = this;
-        for (int i = 0; i < n && cur.nonEmpty(); i++) {
-            cur = cur.tail();
+        if (n <= 0) {
+            return nil();
         }
-        while (cur.nonEmpty()) {
+        List<T> result = this;
+        for (int i = size() - n; i > 0; i--) {
             result = result.tail();
-            cur = cur.tail();
         }
         return result;
     }
@@ -369,46 +470,124 @@ public sealed abstract class List<T> implements Seq<T>, Ext<List<T>> permits Nil
         return reverse().foldLeft(zero, (acc, v) -> func.apply(v, acc));
     }
 
+    @Override
+    public <U> List<U> scanLeft(U zero, BiFunction<? super U, ? super T, ? extends U> func) {
+        final ListBuilder<U> result = new ListBuilder<>();
+        U acc = zero;
+        result.add(acc);
+        for (List<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
+            acc = func.apply(acc, cur.head());
+            result.add(acc);
+        }
+        return result.build();
+    }
+
+    @Override
+    public <U> List<U> scanRight(U zero, BiFunction<? super T, ? super U, ? extends U> func) {
+        List<U> result = List.of(zero);
+        for (List<T> cur = reverse(); cur.nonEmpty(); cur = cur.tail()) {
+            result = new Cons<>(func.apply(cur.head(), result.head()), result);
+        }
+        return result;
+    }
+
+    @Override
+    public List<T> parallelScan(Monoid<T> monoid) {
+        return parallelScan(monoid, ForkJoinPool.commonPool());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<T> parallelScan(Monoid<T> monoid, Executor executor) {
+        final Object[] values = ParallelFolds.scan(this, monoid, executor);
+        List<T> result = nil();
+        for (int i = values.length - 1; i >= 0; i--) {
+            result = new Cons<>((T) values[i], result);
+        }
+        return result;
+    }
+
     @Override
     public <U> List<Tuple2<T, U>> zip(Iterable<? extends U> that) {
-        List<Tuple2<T, U>> result = nil();
+        final ListBuilder<Tuple2<T, U>> result = new ListBuilder<>();
         Iterator<? extends U> iterator = that.iterator();
         for (List<T> cur = this; cur.nonEmpty() && iterator.hasNext(); cur = cur.tail()) {
-            result = new Cons<>(new Tuple2<>(cur.head(), iterator.next()), result);
+            result.add(new Tuple2<>(cur.head(), iterator.next()));
         }
-        return result.reverse();
+        return result.build();
     }
 
     @Override
     public List<Tuple2<T, Integer>> zipWithIndex() {
-        List<Tuple2<T, Integer>> result = nil();
+        final ListBuilder<Tuple2<T, Integer>> result = new ListBuilder<>();
         int i = 0;
         for (List<T> cur = this; cur.nonEmpty(); cur = cur.tail(), i++) {
-            result = new Cons<>(new Tuple2<>(cur.head(), i), result);
+            result.add(new Tuple2<>(cur.head(), i));
         }
-        return result.reverse();
+        return result.build();
     }
 
-    @Override
-    public boolean equals(Object that) {
-        if (this == that) return true;
-        if (that == null || getClass() != that.getClass()) return false;
-        List<?> list = (List<?>) that;
-        List<T> cur = this;
-        for (; cur.nonEmpty() && list.nonEmpty(); cur = cur.tail(), list = list.tail()) {
-            if (!Objects.equals(cur.head(), list.head())) {
+    private static final class MergeCursor<T> {
+
+        private List<? extends T> list;
+        private final int index;
+
+        private MergeCursor(List<? extends T> list, int index) {
+            this.list = list;
+            this.index = index;
+        }
+    }
+
+    private static final class ListSpliterator<T> implements Spliterator<T> {
+
+        private List<T> cur;
+        private int remaining;
+
+        private ListSpliterator(List<T> list, int size) {
+            this.cur = list;
+            this.remaining = size;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (remaining == 0) {
                 return false;
             }
+            action.accept(cur.head());
+            cur = cur.tail();
+            remaining--;
+            return true;
         }
-        return cur.isNil() && list.isNil();
-    }
 
-    @Override
-    public int hashCode() {
-        int hashCode = 1;
-        for (List<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
-            hashCode += 31 * hashCode + (cur.head() == null ? 0 : Objects.hashCode(cur.head()));
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            for (; remaining > 0; remaining--, cur = cur.tail()) {
+                action.accept(cur.head());
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (remaining < 2) {
+                return null;
+            }
+            final int half = remaining >>> 1;
+            final Spliterator<T> prefix = new ListSpliterator<>(cur, half);
+            for (int i = 0; i < half; i++) {
+                cur = cur.tail();
+            }
+            remaining -= half;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | IMMUTABLE | SIZED | SUBSIZED;
         }
-        return hashCode;
     }
 }
@@ -0,0 +1,36 @@
+package com.vssekorin.sosna;
+
+import java.util.Arrays;
+
+final class ListBuilder<T> {
+
+    private Object[] values = new Object[16];
+    private int size;
+
+    ListBuilder<T> add(T value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size << 1);
+        }
+        values[size++] = value;
+        return this;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    List<T> build() {
+        return build(List.nil());
+    }
+
+    @SuppressWarnings("unchecked")
+    List<T> build(List<T> tail) {
+        List<T> result = tail;
+        for (int i = size - 1; i >= 0; i--) {
+            result = new Cons<>((T) values[i], result);
+            values[i] = null;
+        }
+        size = 0;
+        return result;
+    }
+}
@@ -0,0 +1,281 @@
+package com.vssekorin.sosna;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+public final class LongList implements Iterable<Long>, Ext<LongList>, Serializable {
+
+    private static final LongList EMPTY = new LongList(new long[0]);
+
+    private final long[] values;
+
+    private LongList(long[] values) {
+        this.values = values;
+    }
+
+    static LongList wrap(long[] values) {
+        return values.length == 0 ? EMPTY : new LongList(values);
+    }
+
+    public static LongList empty() {
+        return EMPTY;
+    }
+
+    public static LongList of(long... values) {
+        return wrap(values.clone());
+    }
+
+    public static LongList ofAll(Iterable<Long> values) {
+        if (values instanceof LongList) {
+            return (LongList) values;
+        }
+        long[] array = new long[16];
+        int size = 0;
+        for (Long value : values) {
+            if (size == array.length) {
+                array = Arrays.copyOf(array, size << 1);
+            }
+            array[size++] = value;
+        }
+        return wrap(Arrays.copyOf(array, size));
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    public boolean nonEmpty() {
+        return values.length != 0;
+    }
+
+    public long head() {
+        if (values.length == 0) {
+            throw new NoSuchElementException("head() of empty list");
+        }
+        return values[0];
+    }
+
+    public LongList tail() {
+        if (values.length == 0) {
+            throw new UnsupportedOperationException("tail() of empty list");
+        }
+        return wrap(Arrays.copyOfRange(values, 1, values.length));
+    }
+
+    public long last() {
+        if (values.length == 0) {
+            throw new NoSuchElementException("last() of empty list");
+        }
+        return values[values.length - 1];
+    }
+
+    public long get(int n) {
+        if (n < 0) {
+            throw new IndexOutOfBoundsException("get(): n is negative");
+        }
+        if (n >= values.length) {
+            throw new IndexOutOfBoundsException("get(): n is more than length");
+        }
+        return values[n];
+    }
+
+    public boolean contains(long value) {
+        for (long cur : values) {
+            if (cur == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public LongList prepend(long value) {
+        final long[] result = new long[values.length + 1];
+        result[0] = value;
+        System.arraycopy(values, 0, result, 1, values.length);
+        return new LongList(result);
+    }
+
+    public LongList append(long value) {
+        final long[] result = Arrays.copyOf(values, values.length + 1);
+        result[values.length] = value;
+        return new LongList(result);
+    }
+
+    public LongList appendAll(LongList other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        final long[] result = Arrays.copyOf(values, values.length + other.values.length);
+        System.arraycopy(other.values, 0, result, values.length, other.values.length);
+        return new LongList(result);
+    }
+
+    public LongList with(int pos, long value) {
+        if (pos < 0 || pos >= values.length) {
+            throw new IndexOutOfBoundsException("with() with pos = " + pos);
+        }
+        final long[] result = values.clone();
+        result[pos] = value;
+        return new LongList(result);
+    }
+
+    public LongList reverse() {
+        final long[] result = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[values.length - 1 - i] = values[i];
+        }
+        return wrap(result);
+    }
+
+    public LongList take(int n) {
+        return n >= values.length ? this : wrap(Arrays.copyOf(values, Math.max(n, 0)));
+    }
+
+    public LongList takeRight(int n) {
+        return n >= values.length
+            ? this
+            : wrap(Arrays.copyOfRange(values, values.length - Math.max(n, 0), values.length));
+    }
+
+    public LongList map(LongUnaryOperator mapper) {
+        final long[] result = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = mapper.applyAsLong(values[i]);
+        }
+        return wrap(result);
+    }
+
+    public <U> List<U> mapToObj(LongFunction<? extends U> mapper) {
+        final ListBuilder<U> result = new ListBuilder<>();
+        for (long value : values) {
+            result.add(mapper.apply(value));
+        }
+        return result.build();
+    }
+
+    public LongList filter(LongPredicate predicate) {
+        final long[] result = new long[values.length];
+        int size = 0;
+        for (long value : values) {
+            if (predicate.test(value)) {
+                result[size++] = value;
+            }
+        }
+        return size == values.length ? this : wrap(Arrays.copyOf(result, size));
+    }
+
+    public boolean all(LongPredicate predicate) {
+        for (long value : values) {
+            if (!predicate.test(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean any(LongPredicate predicate) {
+        for (long value : values) {
+            if (predicate.test(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long foldLeft(long zero, LongBinaryOperator func) {
+        long result = zero;
+        for (long value : values) {
+            result = func.applyAsLong(result, value);
+        }
+        return result;
+    }
+
+    public long foldRight(long zero, LongBinaryOperator func) {
+        long result = zero;
+        for (int i = values.length - 1; i >= 0; i--) {
+            result = func.applyAsLong(values[i], result);
+        }
+        return result;
+    }
+
+    public long fold(LongMonoid monoid) {
+        long result = monoid.empty();
+        for (long value : values) {
+            result = monoid.combine(result, value);
+        }
+        return result;
+    }
+
+    public long reduce(LongSemigroup semigroup) {
+        if (values.length == 0) {
+            throw new NoSuchElementException("reduce of empty list");
+        }
+        long result = values[0];
+        for (int i = 1; i < values.length; i++) {
+            result = semigroup.combine(result, values[i]);
+        }
+        return result;
+    }
+
+    public long sum() {
+        return fold(LongMonoid.sum);
+    }
+
+    public List<Long> boxed() {
+        return mapToObj(Long::valueOf);
+    }
+
+    public long[] toArray() {
+        return values.clone();
+    }
+
+    public LongStream stream() {
+        return Arrays.stream(values);
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < values.length;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return values[index++];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+        return Arrays.equals(values, ((LongList) that).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+}
@@ -0,0 +1,26 @@
+package com.vssekorin.sosna;
+
+public interface LongMonoid extends LongSemigroup {
+
+    long empty();
+
+    LongMonoid sum = new LongMonoid() {
+        @Override public long empty() { return 0; }
+        @Override public long combine(long x, long y) { return x + y; }
+    };
+
+    LongMonoid prod = new LongMonoid() {
+        @Override public long empty() { return 1; }
+        @Override public long combine(long x, long y) { return x * y; }
+    };
+
+    LongMonoid min = new LongMonoid() {
+        @Override public long empty() { return Long.MAX_VALUE; }
+        @Override public long combine(long x, long y) { return Math.min(x, y); }
+    };
+
+    LongMonoid max = new LongMonoid() {
+        @Override public long empty() { return Long.MIN_VALUE; }
+        @Override public long combine(long x, long y) { return Math.max(x, y); }
+    };
+}
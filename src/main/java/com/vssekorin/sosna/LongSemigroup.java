@@ -0,0 +1,12 @@
+package com.vssekorin.sosna;
+
+@FunctionalInterface
+public interface LongSemigroup {
+
+    long combine(long x, long y);
+
+    LongSemigroup sum = (x, y) -> x + y;
+    LongSemigroup prod = (x, y) -> x * y;
+    LongSemigroup min = Math::min;
+    LongSemigroup max = Math::max;
+}
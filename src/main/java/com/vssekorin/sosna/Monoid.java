@@ -1,9 +1,35 @@
 package com.vssekorin.sosna;
 
+import java.util.Comparator;
+
 public interface Monoid<T> extends Semigroup<T> {
 
     T empty();
 
+    static <A, B> Monoid<Tuple2<A, B>> product(Monoid<A> first, Monoid<B> second) {
+        final Tuple2<A, B> empty = new Tuple2<>(first.empty(), second.empty());
+        return new Monoid<>() {
+            @Override public Tuple2<A, B> empty() { return empty; }
+            @Override public Tuple2<A, B> combine(Tuple2<A, B> x, Tuple2<A, B> y) {
+                return new Tuple2<>(first.combine(x._1(), y._1()), second.combine(x._2(), y._2()));
+            }
+        };
+    }
+
+    static <A, B, C> Monoid<Tuple3<A, B, C>> product(Monoid<A> first, Monoid<B> second, Monoid<C> third) {
+        final Tuple3<A, B, C> empty = new Tuple3<>(first.empty(), second.empty(), third.empty());
+        return new Monoid<>() {
+            @Override public Tuple3<A, B, C> empty() { return empty; }
+            @Override public Tuple3<A, B, C> combine(Tuple3<A, B, C> x, Tuple3<A, B, C> y) {
+                return new Tuple3<>(
+                    first.combine(x._1(), y._1()),
+                    second.combine(x._2(), y._2()),
+                    third.combine(x._3(), y._3())
+                );
+            }
+        };
+    }
+
     abstract class Int {
         public static final Monoid<Integer> sum = new Monoid<>() {
             @Override public Integer empty() { return 0; }
@@ -14,13 +40,27 @@ public interface Monoid<T> extends Semigroup<T> {
             @Override public Integer empty() { return 1; }
             @Override public Integer combine(Integer x, Integer y) { return x * y; }
         };
+
+        public static final Monoid<Integer> min = new Monoid<>() {
+            @Override public Integer empty() { return Integer.MAX_VALUE; }
+            @Override public Integer combine(Integer x, Integer y) { return Math.min(x, y); }
+        };
+
+        public static final Monoid<Integer> max = new Monoid<>() {
+            @Override public Integer empty() { return Integer.MIN_VALUE; }
+            @Override public Integer combine(Integer x, Integer y) { return Math.max(x, y); }
+        };
     }
 
     abstract class Str {
-        public static final Monoid<String> concat = new Monoid<>() {
-            @Override public String empty() { return ""; }
-            @Override public String combine(String x, String y) { return x + y; }
-        };
+        public static final Monoid<String> concat = Concat.Strings.INSTANCE;
+    }
+
+    abstract class Lst {
+        @SuppressWarnings("unchecked")
+        public static <T> Monoid<List<T>> concat() {
+            return (Monoid<List<T>>) Concat.Lists.INSTANCE;
+        }
     }
 
     abstract class Bool {
@@ -34,4 +74,22 @@ public interface Monoid<T> extends Semigroup<T> {
             @Override public Boolean combine(Boolean x, Boolean y) { return x || y; }
         };
     }
+
+    abstract class Sketch {
+        public static Monoid<HyperLogLog> hyperLogLog(int precision) {
+            return new HyperLogLog.Merging(precision);
+        }
+
+        public static Monoid<QuantileSketch> quantiles(int capacity) {
+            return new QuantileSketch.Merging(capacity);
+        }
+
+        public static <T> Monoid<TopK<T>> topK(int k, Comparator<? super T> comparator) {
+            return new TopK.Merging<>(k, comparator);
+        }
+
+        public static Monoid<BloomFilter> bloomFilter(int bits, int hashes) {
+            return new BloomFilter.Merging(bits, hashes);
+        }
+    }
 }
@@ -23,6 +23,11 @@ public final class Nil<T> extends List<T> {
         return true;
     }
 
+    @Override
+    public int size() {
+        return 0;
+    }
+
     @Override
     public T head() {
         throw new NoSuchElementException("head() of empty list");
@@ -49,8 +54,9 @@ public final class Nil<T> extends List<T> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public List<T> appendAll(Iterable<? extends T> values) {
-        return List.ofAll(values);
+        return values instanceof List ? (List<T>) values : List.ofAll(values);
     }
 
     @Override
@@ -119,4 +125,14 @@ public final class Nil<T> extends List<T> {
     public T reduceRight(BiFunction<? super T, ? super T, ? extends T> func) {
         throw new NoSuchElementException("reduceRight of empty list");
     }
+
+    @Override
+    public boolean equals(Object that) {
+        return that instanceof Nil;
+    }
+
+    @Override
+    public int hashCode() {
+        return 1;
+    }
 }
@@ -0,0 +1,200 @@
+package com.vssekorin.sosna;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+final class ParallelFolds {
+
+    static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    private ParallelFolds() {
+    }
+
+    static Object[] toArray(Seq<?> seq) {
+        final Object[] array = new Object[seq.size()];
+        int i = 0;
+        for (Object value : seq) {
+            array[i++] = value;
+        }
+        return array;
+    }
+
+    static <T> T fold(Seq<T> seq, Monoid<T> monoid, Executor executor) {
+        return foldMap(seq, Function.identity(), monoid, executor);
+    }
+
+    static <T, M> M foldMap(Seq<T> seq, Function<? super T, ? extends M> f, Monoid<M> monoid, Executor executor) {
+        return seq.isEmpty() ? monoid.empty() : mapReduce(seq, f, monoid, executor);
+    }
+
+    static <T> T reduce(Seq<T> seq, Semigroup<T> semigroup, Executor executor) {
+        if (seq.isEmpty()) {
+            throw new NoSuchElementException("parallelReduce of empty seq");
+        }
+        return mapReduce(seq, Function.identity(), semigroup, executor);
+    }
+
+    private static <T, M> M mapReduce(
+        Seq<T> seq,
+        Function<? super T, ? extends M> f,
+        Semigroup<M> semigroup,
+        Executor executor
+    ) {
+        final Object[] values = toArray(seq);
+        if (values.length <= SEQUENTIAL_THRESHOLD) {
+            return mapReduce(values, 0, values.length, f, semigroup);
+        }
+        if (executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executor).invoke(new MapReduceTask<>(values, 0, values.length, f, semigroup));
+        }
+        return mapReduceInChunks(values, f, semigroup, executor);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, M> M mapReduce(Object[] values, int from, int to, Function<? super T, ? extends M> f, Semigroup<M> semigroup) {
+        if (semigroup instanceof Accumulating) {
+            return accumulate(values, from, to, f, (Accumulating<M, ?>) semigroup);
+        }
+        M result = f.apply((T) values[from]);
+        for (int i = from + 1; i < to; i++) {
+            result = semigroup.combine(result, f.apply((T) values[i]));
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, M, A> M accumulate(
+        Object[] values,
+        int from,
+        int to,
+        Function<? super T, ? extends M> f,
+        Accumulating<M, A> accumulating
+    ) {
+        final A acc = accumulating.supply();
+        for (int i = from; i < to; i++) {
+            accumulating.accumulate(acc, f.apply((T) values[i]));
+        }
+        return accumulating.finish(acc);
+    }
+
+    private static <T, M> M mapReduceInChunks(
+        Object[] values,
+        Function<? super T, ? extends M> f,
+        Semigroup<M> semigroup,
+        Executor executor
+    ) {
+        final int chunks = chunks(values.length);
+        final int chunkSize = (values.length + chunks - 1) / chunks;
+        final CompletableFuture<M>[] parts = futures(chunks);
+        for (int i = 0; i < chunks; i++) {
+            final int from = i * chunkSize;
+            final int to = Math.min(from + chunkSize, values.length);
+            parts[i] = CompletableFuture.supplyAsync(() -> mapReduce(values, from, to, f, semigroup), executor);
+        }
+        M result = join(parts[0]);
+        for (int i = 1; i < chunks; i++) {
+            result = semigroup.combine(result, join(parts[i]));
+        }
+        return result;
+    }
+
+    static <T> Object[] scan(Seq<T> seq, Monoid<T> monoid, Executor executor) {
+        final Object[] values = toArray(seq);
+        final Object[] result = new Object[values.length + 1];
+        if (values.length <= SEQUENTIAL_THRESHOLD) {
+            scan(values, 0, values.length, monoid.empty(), monoid, result);
+            return result;
+        }
+        final int chunks = chunks(values.length);
+        final int chunkSize = (values.length + chunks - 1) / chunks;
+        final CompletableFuture<T>[] sums = futures(chunks);
+        for (int i = 0; i < chunks; i++) {
+            final int from = i * chunkSize;
+            final int to = Math.min(from + chunkSize, values.length);
+            sums[i] = CompletableFuture.supplyAsync(() -> mapReduce(values, from, to, Function.<T>identity(), monoid), executor);
+        }
+        final CompletableFuture<Void>[] parts = futures(chunks);
+        T offset = monoid.empty();
+        for (int i = 0; i < chunks; i++) {
+            final int from = i * chunkSize;
+            final int to = Math.min(from + chunkSize, values.length);
+            final T prefix = offset;
+            parts[i] = CompletableFuture.runAsync(() -> scan(values, from, to, prefix, monoid, result), executor);
+            offset = monoid.combine(offset, join(sums[i]));
+        }
+        for (CompletableFuture<Void> part : parts) {
+            join(part);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void scan(Object[] values, int from, int to, T prefix, Monoid<T> monoid, Object[] result) {
+        T acc = prefix;
+        result[from] = acc;
+        for (int i = from; i < to; i++) {
+            acc = monoid.combine(acc, (T) values[i]);
+            result[i + 1] = acc;
+        }
+    }
+
+    private static int chunks(int length) {
+        return Math.min(
+            Runtime.getRuntime().availableProcessors() * 4,
+            (length + SEQUENTIAL_THRESHOLD - 1) / SEQUENTIAL_THRESHOLD
+        );
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> CompletableFuture<T>[] futures(int length) {
+        return new CompletableFuture[length];
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            if (ex.getCause() instanceof Error) {
+                throw (Error) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    private static final class MapReduceTask<T, M> extends RecursiveTask<M> {
+
+        private final Object[] values;
+        private final int from;
+        private final int to;
+        private final Function<? super T, ? extends M> f;
+        private final Semigroup<M> semigroup;
+
+        private MapReduceTask(Object[] values, int from, int to, Function<? super T, ? extends M> f, Semigroup<M> semigroup) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.f = f;
+            this.semigroup = semigroup;
+        }
+
+        @Override
+        protected M compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                return mapReduce(values, from, to, f, semigroup);
+            }
+            final int mid = (from + to) >>> 1;
+            final MapReduceTask<T, M> left = new MapReduceTask<>(values, from, mid, f, semigroup);
+            left.fork();
+            final M right = new MapReduceTask<>(values, mid, to, f, semigroup).compute();
+            return semigroup.combine(left.join(), right);
+        }
+    }
+}
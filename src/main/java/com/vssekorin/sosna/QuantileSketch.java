@@ -0,0 +1,154 @@
+package com.vssekorin.sosna;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+public final class QuantileSketch implements Serializable {
+
+    private final double[][] levels;
+
+    private QuantileSketch(double[][] levels) {
+        this.levels = levels;
+    }
+
+    public static QuantileSketch of(double value) {
+        return new QuantileSketch(new double[][]{{value}});
+    }
+
+    public long count() {
+        long count = 0;
+        for (int level = 0; level < levels.length; level++) {
+            count += (long) levels[level].length << level;
+        }
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count() == 0;
+    }
+
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("quantile() with q = " + q);
+        }
+        final int items = Arrays.stream(levels).mapToInt(level -> level.length).sum();
+        if (items == 0) {
+            throw new NoSuchElementException("quantile() of empty sketch");
+        }
+        final double[] values = new double[items];
+        final long[] weights = new long[items];
+        final Integer[] order = new Integer[items];
+        int i = 0;
+        for (int level = 0; level < levels.length; level++) {
+            for (double value : levels[level]) {
+                values[i] = value;
+                weights[i] = 1L << level;
+                order[i] = i;
+                i++;
+            }
+        }
+        Arrays.sort(order, (x, y) -> Double.compare(values[x], values[y]));
+        final double target = q * count();
+        long cumulative = 0;
+        for (Integer index : order) {
+            cumulative += weights[index];
+            if (cumulative >= target) {
+                return values[index];
+            }
+        }
+        return values[order[items - 1]];
+    }
+
+    static final class Buffer {
+
+        private final int capacity;
+        private double[][] items = new double[1][];
+        private int[] sizes = new int[1];
+        private boolean oddOffset;
+
+        private Buffer(int capacity) {
+            this.capacity = capacity;
+            this.items[0] = new double[capacity];
+        }
+
+        private void add(int level, double value) {
+            if (level >= items.length) {
+                final int oldLength = items.length;
+                items = Arrays.copyOf(items, level + 1);
+                sizes = Arrays.copyOf(sizes, level + 1);
+                for (int i = oldLength; i <= level; i++) {
+                    items[i] = new double[capacity];
+                }
+            }
+            items[level][sizes[level]++] = value;
+            if (sizes[level] == capacity) {
+                compact(level);
+            }
+        }
+
+        private void compact(int level) {
+            final double[] values = items[level];
+            Arrays.sort(values, 0, capacity);
+            sizes[level] = 0;
+            final int offset = oddOffset ? 1 : 0;
+            oddOffset = !oddOffset;
+            for (int i = offset; i < capacity; i += 2) {
+                add(level + 1, values[i]);
+            }
+        }
+
+        private QuantileSketch build() {
+            final double[][] levels = new double[items.length][];
+            for (int level = 0; level < items.length; level++) {
+                levels[level] = Arrays.copyOf(items[level], sizes[level]);
+            }
+            return new QuantileSketch(levels);
+        }
+    }
+
+    static final class Merging implements Monoid<QuantileSketch>, Accumulating<QuantileSketch, Buffer> {
+
+        private final int capacity;
+        private final QuantileSketch empty = new QuantileSketch(new double[0][]);
+
+        Merging(int capacity) {
+            if (capacity < 2 || capacity % 2 != 0) {
+                throw new IllegalArgumentException("QuantileSketch capacity must be even and at least 2: " + capacity);
+            }
+            this.capacity = capacity;
+        }
+
+        @Override
+        public QuantileSketch empty() {
+            return empty;
+        }
+
+        @Override
+        public QuantileSketch combine(QuantileSketch x, QuantileSketch y) {
+            final Buffer acc = supply();
+            accumulate(acc, x);
+            accumulate(acc, y);
+            return finish(acc);
+        }
+
+        @Override
+        public Buffer supply() {
+            return new Buffer(capacity);
+        }
+
+        @Override
+        public void accumulate(Buffer acc, QuantileSketch value) {
+            for (int level = 0; level < value.levels.length; level++) {
+                for (double item : value.levels[level]) {
+                    acc.add(level, item);
+                }
+            }
+        }
+
+        @Override
+        public QuantileSketch finish(Buffer acc) {
+            return acc.build();
+        }
+    }
+}
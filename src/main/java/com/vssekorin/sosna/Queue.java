@@ -0,0 +1,496 @@
+package com.vssekorin.sosna;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public final class Queue<T> implements Seq<T>, Ext<Queue<T>> {
+
+    private static final Queue<?> EMPTY = new Queue<>(Stream.empty(), 0, List.nil(), 0);
+
+    private final Stream<T> front;
+    private final int frontSize;
+    private final List<T> rear;
+    private final int rearSize;
+
+    private Queue(Stream<T> front, int frontSize, List<T> rear, int rearSize) {
+        this.front = front;
+        this.frontSize = frontSize;
+        this.rear = rear;
+        this.rearSize = rearSize;
+    }
+
+    private static <T> Queue<T> balanced(Stream<T> front, int frontSize, List<T> rear, int rearSize) {
+        if (rearSize <= frontSize) {
+            return new Queue<>(front, frontSize, rear, rearSize);
+        }
+        return new Queue<>(rotate(front, rear, Stream.empty()), frontSize + rearSize, List.nil(), 0);
+    }
+
+    private static <T> Stream<T> rotate(Stream<T> front, List<T> rear, Stream<T> acc) {
+        if (front.isEmpty()) {
+            return acc.prepend(rear.head());
+        }
+        return Stream.cons(front.head(), () -> rotate(front.tail(), rear.tail(), acc.prepend(rear.head())));
+    }
+
+    private static <T> Queue<T> ofList(List<T> values) {
+        return values.isEmpty() ? empty() : new Queue<>(Stream.ofAll(values), values.size(), List.nil(), 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Queue<T> empty() {
+        return (Queue<T>) EMPTY;
+    }
+
+    public static <T> Queue<T> of(T value) {
+        return new Queue<>(Stream.of(value), 1, List.nil(), 0);
+    }
+
+    @SafeVarargs
+    public static <T> Queue<T> of(T... values) {
+        final ListBuilder<T> builder = new ListBuilder<>();
+        for (T value : values) {
+            builder.add(value);
+        }
+        return ofList(builder.build());
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Queue<T> ofAll(Iterable<? extends T> values) {
+        if (values instanceof Queue) {
+            return (Queue<T>) values;
+        }
+        return ofList(List.ofAll(values));
+    }
+
+    public List<T> toList() {
+        return rear.isEmpty() ? front.toList() : front.toList().appendAll(rear.reverse());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return frontSize == 0;
+    }
+
+    @Override
+    public T head() {
+        if (frontSize == 0) {
+            throw new NoSuchElementException("head() of empty queue");
+        }
+        return front.head();
+    }
+
+    @Override
+    public Optional<T> headOpt() {
+        return front.headOpt();
+    }
+
+    @Override
+    public Queue<T> tail() {
+        if (frontSize == 0) {
+            throw new UnsupportedOperationException("tail() of empty queue");
+        }
+        return balanced(front.tail(), frontSize - 1, rear, rearSize);
+    }
+
+    @Override
+    public int size() {
+        return frontSize + rearSize;
+    }
+
+    @Override
+    public Tuple2<T, Queue<T>> uncons() {
+        if (frontSize == 0) {
+            throw new UnsupportedOperationException("uncons() of empty queue");
+        }
+        return Tuple.of(front.head(), tail());
+    }
+
+    @Override
+    public java.util.List<T> asJava() {
+        final java.util.List<T> javaList = new ArrayList<>(size());
+        for (T value : this) {
+            javaList.add(value);
+        }
+        return javaList;
+    }
+
+    @Override
+    public Queue<T> prepend(T value) {
+        return new Queue<>(front.prepend(value), frontSize + 1, rear, rearSize);
+    }
+
+    @Override
+    public Queue<T> prependAll(Iterable<? extends T> values) {
+        final List<T> prefix = List.ofAll(values);
+        return new Queue<>(front.prependAll(prefix), frontSize + prefix.size(), rear, rearSize);
+    }
+
+    @Override
+    public Queue<T> append(T value) {
+        return balanced(front, frontSize, rear.prepend(value), rearSize + 1);
+    }
+
+    @Override
+    public Queue<T> appendAll(Iterable<? extends T> values) {
+        Queue<T> result = this;
+        for (T value : values) {
+            result = result.append(value);
+        }
+        return result;
+    }
+
+    @Override
+    public Queue<T> reverse() {
+        return ofList(toList().reverse());
+    }
+
+    @Override
+    public T last() {
+        if (frontSize == 0) {
+            throw new NoSuchElementException("last() of empty queue");
+        }
+        return rear.isEmpty() ? front.last() : rear.head();
+    }
+
+    @Override
+    public Optional<T> lastOpt() {
+        return frontSize == 0 ? Optional.empty() : Optional.of(last());
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        final Iterator<T> first = front.iterator();
+        return new Iterator<>() {
+            private Iterator<T> second;
+
+            @Override
+            public boolean hasNext() {
+                if (first.hasNext()) {
+                    return true;
+                }
+                if (second == null) {
+                    second = rear.reverse().iterator();
+                }
+                return second.hasNext();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return first.hasNext() ? first.next() : second.next();
+            }
+        };
+    }
+
+    @Override
+    public boolean contains(Eq<T> equiv, T value) {
+        return front.contains(equiv, value) || rear.contains(equiv, value);
+    }
+
+    @Override
+    public T get(int n) {
+        if (n < 0) {
+            throw new IndexOutOfBoundsException("get(): n is negative");
+        }
+        if (n >= size()) {
+            throw new IndexOutOfBoundsException("get(): n is more than length");
+        }
+        return n < frontSize ? front.get(n) : rear.get(size() - 1 - n);
+    }
+
+    @Override
+    public Optional<T> getOpt(int n) {
+        if (n < 0) {
+            throw new IndexOutOfBoundsException("get(): n is negative");
+        }
+        return n < size() ? Optional.ofNullable(get(n)) : Optional.empty();
+    }
+
+    @Override
+    public T getOr(int n, T defaultValue) {
+        if (n < 0) {
+            throw new IndexOutOfBoundsException("get(): n is negative");
+        }
+        return n < size() ? get(n) : defaultValue;
+    }
+
+    @Override
+    public T getOrGet(int n, Supplier<T> defaultValue) {
+        if (n < 0) {
+            throw new IndexOutOfBoundsException("get(): n is negative");
+        }
+        return n < size() ? get(n) : defaultValue.get();
+    }
+
+    @Override
+    public Queue<T> or(Iterable<? extends T> other) {
+        return isEmpty() ? ofAll(other) : this;
+    }
+
+    @Override
+    public Queue<T> or(Supplier<? extends Iterable<? extends T>> supplier) {
+        return isEmpty() ? ofAll(supplier.get()) : this;
+    }
+
+    @Override
+    public Queue<T> insert(int pos, T value) {
+        if (pos < 0 || pos > size()) {
+            throw new IndexOutOfBoundsException("insert() with pos = " + pos);
+        }
+        return pos <= frontSize
+            ? new Queue<>(front.insert(pos, value), frontSize + 1, rear, rearSize)
+            : balanced(front, frontSize, rear.insert(size() - pos, value), rearSize + 1);
+    }
+
+    @Override
+    public Queue<T> with(int pos, T value) {
+        if (pos < 0 || pos >= size()) {
+            throw new IndexOutOfBoundsException("with() with pos = " + pos);
+        }
+        return pos < frontSize
+            ? new Queue<>(front.with(pos, value), frontSize, rear, rearSize)
+            : new Queue<>(front, frontSize, rear.with(size() - 1 - pos, value), rearSize);
+    }
+
+    @Override
+    public <U> Queue<U> map(Function<T, ? extends U> mapper) {
+        return ofList(toList().map(mapper));
+    }
+
+    @Override
+    public <U> Queue<U> mapIndexed(BiFunction<Integer, T, ? extends U> mapper) {
+        return ofList(toList().mapIndexed(mapper));
+    }
+
+    @Override
+    public Queue<T> mapIf(Predicate<? super T> condition, Function<? super T, ? extends T> f) {
+        return ofList(toList().mapIf(condition, f));
+    }
+
+    @Override
+    public <U> Queue<U> mapIf(
+        Predicate<? super T> condition,
+        Function<? super T, ? extends U> thenF,
+        Function<? super T, ? extends U> elseF
+    ) {
+        return ofList(toList().mapIf(condition, thenF, elseF));
+    }
+
+    @Override
+    public Queue<T> mapIfFirst(Predicate<? super T> condition, Function<? super T, ? extends T> f) {
+        return ofList(toList().mapIfFirst(condition, f));
+    }
+
+    @Override
+    public <U> Queue<U> mapNotNull(Function<T, ? extends U> f) {
+        return ofList(toList().mapNotNull(f));
+    }
+
+    @Override
+    public <U> Queue<U> mapIndexedNotNull(BiFunction<Integer, T, ? extends U> f) {
+        return ofList(toList().mapIndexedNotNull(f));
+    }
+
+    @Override
+    public Queue<T> filter(Predicate<? super T> predicate) {
+        return ofList(toList().filter(predicate));
+    }
+
+    @Override
+    public Queue<T> filterNot(Predicate<? super T> predicate) {
+        return filter(predicate.negate());
+    }
+
+    @Override
+    public Queue<T> filterNonNull() {
+        return filter(Objects::nonNull);
+    }
+
+    @Override
+    public Queue<T> filterIndexed(BiPredicate<Integer, T> predicate) {
+        return ofList(toList().filterIndexed(predicate));
+    }
+
+    @Override
+    public Queue<T> distinct() {
+        return distinct(Hash.objectHash());
+    }
+
+    @Override
+    public Queue<T> distinct(Hash<T> hash) {
+        return ofList(toList().distinct(hash));
+    }
+
+    @Override
+    public Queue<T> intersect(Iterable<? extends T> other) {
+        return intersect(Hash.objectHash(), other);
+    }
+
+    @Override
+    public Queue<T> intersect(Hash<T> hash, Iterable<? extends T> other) {
+        final HashSet<T> set = HashSet.ofAll(hash, other);
+        return filter(set::contains);
+    }
+
+    @Override
+    public Queue<T> diff(Iterable<? extends T> other) {
+        return diff(Hash.objectHash(), other);
+    }
+
+    @Override
+    public Queue<T> diff(Hash<T> hash, Iterable<? extends T> other) {
+        final HashSet<T> set = HashSet.ofAll(hash, other);
+        return filterNot(set::contains);
+    }
+
+    @Override
+    public boolean all(Predicate<T> predicate) {
+        return front.all(predicate) && rear.all(predicate);
+    }
+
+    @Override
+    public boolean any(Predicate<T> predicate) {
+        return front.any(predicate) || rear.any(predicate);
+    }
+
+    @Override
+    public int count(Predicate<T> predicate) {
+        return front.count(predicate) + rear.count(predicate);
+    }
+
+    @Override
+    public <U> U match(Supplier<? extends U> ifNil, BiFunction<T, Seq<T>, ? extends U> ifCons) {
+        return isEmpty() ? ifNil.get() : ifCons.apply(head(), tail());
+    }
+
+    @Override
+    public <U> U match(
+        Supplier<? extends U> ifNil,
+        Function<T, ? extends U> ifSingle,
+        Function<T, Function<T, Function<Seq<T>, ? extends U>>> ifMultiple
+    ) {
+        if (isEmpty()) {
+            return ifNil.get();
+        } else if (size() == 1) {
+            return ifSingle.apply(head());
+        } else {
+            final Queue<T> tail = tail();
+            return ifMultiple.apply(head()).apply(tail.head()).apply(tail.tail());
+        }
+    }
+
+    @Override
+    public Queue<T> take(int n) {
+        return n >= size() ? this : ofList(toList().take(n));
+    }
+
+    @Override
+    public Queue<T> takeWhile(Predicate<T> cond) {
+        return ofList(toList().takeWhile(cond));
+    }
+
+    @Override
+    public Queue<T> takeRight(int n) {
+        return n >= size() ? this : ofList(toList().takeRight(n));
+    }
+
+    @Override
+    public Queue<T> takeRightWhile(Predicate<T> cond) {
+        return ofList(toList().takeRightWhile(cond));
+    }
+
+    @Override
+    public <U> Queue<Tuple2<T, U>> zip(Iterable<? extends U> that) {
+        return ofList(toList().zip(that));
+    }
+
+    @Override
+    public Queue<Tuple2<T, Integer>> zipWithIndex() {
+        return ofList(toList().zipWithIndex());
+    }
+
+    @Override
+    public <U> U foldLeft(U zero, BiFunction<? super U, ? super T, ? extends U> func) {
+        final U acc = front.foldLeft(zero, func);
+        return rear.foldRight(acc, (v, a) -> func.apply(a, v));
+    }
+
+    @Override
+    public <U> U foldRight(U zero, BiFunction<? super T, ? super U, ? extends U> func) {
+        final U acc = rear.foldLeft(zero, (a, v) -> func.apply(v, a));
+        return front.foldRight(acc, func);
+    }
+
+    @Override
+    public <U> Queue<U> scanLeft(U zero, BiFunction<? super U, ? super T, ? extends U> func) {
+        return ofList(toList().scanLeft(zero, func));
+    }
+
+    @Override
+    public <U> Queue<U> scanRight(U zero, BiFunction<? super T, ? super U, ? extends U> func) {
+        return ofList(toList().scanRight(zero, func));
+    }
+
+    @Override
+    public Queue<T> parallelScan(Monoid<T> monoid) {
+        return parallelScan(monoid, ForkJoinPool.commonPool());
+    }
+
+    @Override
+    public Queue<T> parallelScan(Monoid<T> monoid, Executor executor) {
+        return ofList(toList().parallelScan(monoid, executor));
+    }
+
+    @Override
+    public T reduceLeft(BiFunction<? super T, ? super T, ? extends T> func) {
+        if (isEmpty()) {
+            throw new NoSuchElementException("reduceLeft of empty queue");
+        }
+        return tail().foldLeft(head(), func);
+    }
+
+    @Override
+    public T reduceRight(BiFunction<? super T, ? super T, ? extends T> func) {
+        if (isEmpty()) {
+            throw new NoSuchElementException("reduceRight of empty queue");
+        }
+        return toList().reduceRight(func);
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+        Queue<?> queue = (Queue<?>) that;
+        if (size() != queue.size()) return false;
+        Iterator<?> other = queue.iterator();
+        for (T value : this) {
+            if (!Objects.equals(value, other.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (T value : this) {
+            hashCode = 31 * hashCode + Objects.hashCode(value);
+        }
+        return hashCode;
+    }
+}
@@ -5,7 +5,11 @@ import java.util.function.Function;
 
 public interface Reducible<T> extends Foldable<T> {
 
+    @SuppressWarnings("unchecked")
     default T reduce(Semigroup<T> semigroup) {
+        if (semigroup instanceof Accumulating) {
+            return Accumulating.reduce(this, (Accumulating<T, ?>) semigroup);
+        }
         return reduceLeft(semigroup::combine);
     }
 
@@ -0,0 +1,277 @@
+package com.vssekorin.sosna;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+public final class SegmentTree<T> implements Iterable<T>, Foldable<T>, Ext<SegmentTree<T>>, Serializable {
+
+    private final Monoid<T> monoid;
+    private final Node<T> root;
+
+    private SegmentTree(Monoid<T> monoid, Node<T> root) {
+        this.monoid = monoid;
+        this.root = root;
+    }
+
+    public static <T> SegmentTree<T> empty(Monoid<T> monoid) {
+        return new SegmentTree<>(monoid, null);
+    }
+
+    @SafeVarargs
+    public static <T> SegmentTree<T> of(Monoid<T> monoid, T... values) {
+        final Object[] array = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            array[i] = values[i];
+        }
+        return ofArray(monoid, array, array.length);
+    }
+
+    public static <T> SegmentTree<T> ofAll(Monoid<T> monoid, Iterable<? extends T> values) {
+        if (values instanceof Collection) {
+            final Object[] array = ((Collection<?>) values).toArray();
+            return ofArray(monoid, array, array.length);
+        }
+        Object[] array = new Object[16];
+        int size = 0;
+        for (T value : values) {
+            if (size == array.length) {
+                array = Arrays.copyOf(array, size << 1);
+            }
+            array[size++] = value;
+        }
+        return ofArray(monoid, array, size);
+    }
+
+    private static <T> SegmentTree<T> ofArray(Monoid<T> monoid, Object[] values, int length) {
+        return new SegmentTree<>(monoid, length == 0 ? null : build(monoid, values, 0, length));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T> build(Monoid<T> monoid, Object[] values, int from, int to) {
+        if (to - from == 1) {
+            return new Node<>((T) values[from]);
+        }
+        final int mid = (from + to) >>> 1;
+        return new Node<>(monoid, build(monoid, values, from, mid), build(monoid, values, mid, to));
+    }
+
+    public Monoid<T> monoid() {
+        return monoid;
+    }
+
+    public int size() {
+        return Node.size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    public boolean nonEmpty() {
+        return root != null;
+    }
+
+    public T get(int n) {
+        if (n < 0) {
+            throw new IndexOutOfBoundsException("get(): n is negative");
+        }
+        if (n >= size()) {
+            throw new IndexOutOfBoundsException("get(): n is more than length");
+        }
+        Node<T> node = root;
+        while (node.left != null) {
+            if (n < node.left.size) {
+                node = node.left;
+            } else {
+                n -= node.left.size;
+                node = node.right;
+            }
+        }
+        return node.summary;
+    }
+
+    public SegmentTree<T> with(int pos, T value) {
+        if (pos < 0 || pos >= size()) {
+            throw new IndexOutOfBoundsException("with() with pos = " + pos);
+        }
+        return new SegmentTree<>(monoid, with(monoid, root, pos, value));
+    }
+
+    private static <T> Node<T> with(Monoid<T> monoid, Node<T> node, int pos, T value) {
+        if (node.left == null) {
+            return new Node<>(value);
+        }
+        final int leftSize = node.left.size;
+        return pos < leftSize
+            ? new Node<>(monoid, with(monoid, node.left, pos, value), node.right)
+            : new Node<>(monoid, node.left, with(monoid, node.right, pos - leftSize, value));
+    }
+
+    public T fold() {
+        return root == null ? monoid.empty() : root.summary;
+    }
+
+    public T rangeFold(int from, int to) {
+        if (from < 0 || to > size() || from > to) {
+            throw new IndexOutOfBoundsException("rangeFold() with from = " + from + ", to = " + to);
+        }
+        return from == to ? monoid.empty() : rangeFold(monoid, root, from, to);
+    }
+
+    private static <T> T rangeFold(Monoid<T> monoid, Node<T> node, int from, int to) {
+        if (from == 0 && to == node.size) {
+            return node.summary;
+        }
+        final int leftSize = node.left.size;
+        if (to <= leftSize) {
+            return rangeFold(monoid, node.left, from, to);
+        }
+        if (from >= leftSize) {
+            return rangeFold(monoid, node.right, from - leftSize, to - leftSize);
+        }
+        return monoid.combine(
+            rangeFold(monoid, node.left, from, leftSize),
+            rangeFold(monoid, node.right, 0, to - leftSize)
+        );
+    }
+
+    public <U> SegmentTree<U> map(Monoid<U> monoid, Function<? super T, ? extends U> mapper) {
+        final Object[] array = new Object[size()];
+        int i = 0;
+        for (T value : this) {
+            array[i++] = mapper.apply(value);
+        }
+        return ofArray(monoid, array, array.length);
+    }
+
+    public List<T> toList() {
+        final ListBuilder<T> builder = new ListBuilder<>();
+        for (T value : this) {
+            builder.add(value);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public T fold(Monoid<T> monoid) {
+        return monoid == this.monoid ? fold() : Foldable.super.fold(monoid);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new LeafIterator<>(root);
+    }
+
+    @Override
+    public <U> U foldLeft(U zero, BiFunction<? super U, ? super T, ? extends U> func) {
+        U result = zero;
+        for (T value : this) {
+            result = func.apply(result, value);
+        }
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> U foldRight(U zero, BiFunction<? super T, ? super U, ? extends U> func) {
+        final Object[] array = new Object[size()];
+        int i = 0;
+        for (T value : this) {
+            array[i++] = value;
+        }
+        U result = zero;
+        for (int j = array.length - 1; j >= 0; j--) {
+            result = func.apply((T) array[j], result);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+        SegmentTree<?> tree = (SegmentTree<?>) that;
+        if (size() != tree.size() || monoid != tree.monoid) return false;
+        Iterator<?> other = tree.iterator();
+        for (T value : this) {
+            if (!Objects.equals(value, other.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (T value : this) {
+            hashCode = 31 * hashCode + Objects.hashCode(value);
+        }
+        return hashCode;
+    }
+
+    private static final class Node<T> implements Serializable {
+
+        private final T summary;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+
+        private Node(T value) {
+            this.summary = value;
+            this.left = null;
+            this.right = null;
+            this.size = 1;
+        }
+
+        private Node(Monoid<T> monoid, Node<T> left, Node<T> right) {
+            this.summary = monoid.combine(left.summary, right.summary);
+            this.left = left;
+            this.right = right;
+            this.size = left.size + right.size;
+        }
+
+        private static int size(Node<?> node) {
+            return node == null ? 0 : node.size;
+        }
+    }
+
+    private static final class LeafIterator<T> implements Iterator<T> {
+
+        private final Object[] stack;
+        private int depth;
+
+        private LeafIterator(Node<T> root) {
+            this.stack = new Object[Integer.SIZE - Integer.numberOfLeadingZeros(Node.size(root)) + 1];
+            if (root != null) {
+                stack[depth++] = root;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (depth == 0) {
+                throw new NoSuchElementException();
+            }
+            Node<T> node = (Node<T>) stack[--depth];
+            stack[depth] = null;
+            while (node.left != null) {
+                stack[depth++] = node.right;
+                node = node.left;
+            }
+            return node.summary;
+        }
+    }
+}
@@ -5,13 +5,34 @@ public interface Semigroup<T> {
 
     T combine(T x, T y);
 
+    static <A, B> Semigroup<Tuple2<A, B>> product(Semigroup<A> first, Semigroup<B> second) {
+        return (x, y) -> new Tuple2<>(first.combine(x._1(), y._1()), second.combine(x._2(), y._2()));
+    }
+
+    static <A, B, C> Semigroup<Tuple3<A, B, C>> product(Semigroup<A> first, Semigroup<B> second, Semigroup<C> third) {
+        return (x, y) -> new Tuple3<>(
+            first.combine(x._1(), y._1()),
+            second.combine(x._2(), y._2()),
+            third.combine(x._3(), y._3())
+        );
+    }
+
     abstract class Int {
         public static final Semigroup<Integer> sum = Integer::sum;
         public static final Semigroup<Integer> prod = (x, y) -> x * y;
+        public static final Semigroup<Integer> min = Math::min;
+        public static final Semigroup<Integer> max = Math::max;
     }
 
     abstract class Str {
-        public static final Semigroup<String> concat = (x, y) -> x + y;
+        public static final Semigroup<String> concat = Concat.Strings.INSTANCE;
+    }
+
+    abstract class Lst {
+        @SuppressWarnings("unchecked")
+        public static <T> Semigroup<List<T>> concat() {
+            return (Semigroup<List<T>>) Concat.Lists.INSTANCE;
+        }
     }
 
     abstract class Bool {
@@ -5,6 +5,8 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.*;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -74,8 +76,22 @@ public interface Seq<T>
     }
 
     default boolean containsAll(Seq<T> seq) {
+        return containsAll(Hash.objectHash(), seq);
+    }
+
+    default boolean containsAll(Hash<T> hash, Seq<T> seq) {
+        if (seq.size() > HashSet.LINEAR_SCAN_LIMIT) {
+            HashSet<T> missing = HashSet.ofAll(hash, seq);
+            for (T value : this) {
+                missing = missing.remove(value);
+                if (missing.isEmpty()) {
+                    return true;
+                }
+            }
+            return false;
+        }
         for (T value : seq) {
-            if (!contains(value)) {
+            if (!contains(hash, value)) {
                 return false;
             }
         }
@@ -83,8 +99,21 @@ public interface Seq<T>
     }
 
     default boolean containsAny(Seq<T> seq) {
+        return containsAny(Hash.objectHash(), seq);
+    }
+
+    default boolean containsAny(Hash<T> hash, Seq<T> seq) {
+        if (seq.size() > HashSet.LINEAR_SCAN_LIMIT) {
+            final HashSet<T> wanted = HashSet.ofAll(hash, seq);
+            for (T value : this) {
+                if (wanted.contains(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
         for (T value : seq) {
-            if (contains(value)) {
+            if (contains(hash, value)) {
                 return true;
             }
         }
@@ -117,6 +146,42 @@ public interface Seq<T>
         return StreamSupport.stream(spliterator(), false);
     }
 
+    default T parallelFold(Monoid<T> monoid) {
+        return ParallelFolds.fold(this, monoid, ForkJoinPool.commonPool());
+    }
+
+    default T parallelFold(Monoid<T> monoid, Executor executor) {
+        return ParallelFolds.fold(this, monoid, executor);
+    }
+
+    default <M> M parallelFoldMap(Function<? super T, ? extends M> f, Monoid<M> monoid) {
+        return ParallelFolds.foldMap(this, f, monoid, ForkJoinPool.commonPool());
+    }
+
+    default <M> M parallelFoldMap(Function<? super T, ? extends M> f, Monoid<M> monoid, Executor executor) {
+        return ParallelFolds.foldMap(this, f, monoid, executor);
+    }
+
+    default T parallelReduce(Semigroup<T> semigroup) {
+        return ParallelFolds.reduce(this, semigroup, ForkJoinPool.commonPool());
+    }
+
+    default T parallelReduce(Semigroup<T> semigroup, Executor executor) {
+        return ParallelFolds.reduce(this, semigroup, executor);
+    }
+
+    default com.vssekorin.sosna.Stream<T> slidingFold(int window, Monoid<T> monoid) {
+        return WindowAggregator.slide(this, window, monoid);
+    }
+
+    default com.vssekorin.sosna.Stream<T> slidingReduce(int window, Semigroup<T> semigroup) {
+        return WindowAggregator.slide(this, window, semigroup);
+    }
+
+    Seq<T> parallelScan(Monoid<T> monoid);
+
+    Seq<T> parallelScan(Monoid<T> monoid, Executor executor);
+
     default void orRun(Runnable runnable) {
         if (isEmpty()) {
             runnable.run();
@@ -134,6 +199,33 @@ public interface Seq<T>
     @Override
     <U> Seq<U> map(Function<T, ? extends U> mapper);
 
+    default IntList mapToInt(ToIntFunction<? super T> mapper) {
+        final int[] values = new int[size()];
+        int i = 0;
+        for (T value : this) {
+            values[i++] = mapper.applyAsInt(value);
+        }
+        return IntList.wrap(values);
+    }
+
+    default LongList mapToLong(ToLongFunction<? super T> mapper) {
+        final long[] values = new long[size()];
+        int i = 0;
+        for (T value : this) {
+            values[i++] = mapper.applyAsLong(value);
+        }
+        return LongList.wrap(values);
+    }
+
+    default DoubleList mapToDouble(ToDoubleFunction<? super T> mapper) {
+        final double[] values = new double[size()];
+        int i = 0;
+        for (T value : this) {
+            values[i++] = mapper.applyAsDouble(value);
+        }
+        return DoubleList.wrap(values);
+    }
+
     <U> Seq<U> mapIndexed(BiFunction<Integer, T, ? extends U> mapper);
 
     Seq<T> mapIf(Predicate<? super T> condition, Function<? super T, ? extends T> f);
@@ -158,6 +250,31 @@ public interface Seq<T>
 
     Seq<T> filterIndexed(BiPredicate<Integer, T> predicate);
 
+    Seq<T> distinct();
+
+    Seq<T> distinct(Hash<T> hash);
+
+    Seq<T> intersect(Iterable<? extends T> other);
+
+    Seq<T> intersect(Hash<T> hash, Iterable<? extends T> other);
+
+    Seq<T> diff(Iterable<? extends T> other);
+
+    Seq<T> diff(Hash<T> hash, Iterable<? extends T> other);
+
+    default <K> HashMap<K, List<T>> groupBy(Function<? super T, ? extends K> key) {
+        return groupBy(Hash.objectHash(), key);
+    }
+
+    default <K> HashMap<K, List<T>> groupBy(Hash<K> hash, Function<? super T, ? extends K> key) {
+        HashMap<K, List<T>> groups = HashMap.empty(hash);
+        for (T value : reverse()) {
+            final K groupKey = key.apply(value);
+            groups = groups.put(groupKey, groups.getOr(groupKey, List.nil()).prepend(value));
+        }
+        return groups;
+    }
+
     boolean all(Predicate<T> predicate);
 
     boolean any(Predicate<T> predicate);
@@ -191,4 +308,8 @@ public interface Seq<T>
     <U> Seq<Tuple2<T, U>> zip(Iterable<? extends U> that);
 
     Seq<Tuple2<T, Integer>> zipWithIndex();
+
+    <U> Seq<U> scanLeft(U zero, BiFunction<? super U, ? super T, ? extends U> func);
+
+    <U> Seq<U> scanRight(U zero, BiFunction<? super T, ? super U, ? extends U> func);
 }
@@ -0,0 +1,85 @@
+package com.vssekorin.sosna;
+
+final class Sketches {
+
+    private static final long SEED = 0x9e3779b97f4a7c15L;
+    private static final long NULL_HASH = mix64(SEED);
+
+    private Sketches() {
+    }
+
+    static long hash64(Object value) {
+        if (value == null) {
+            return NULL_HASH;
+        }
+        if (value instanceof CharSequence) {
+            return hashChars((CharSequence) value);
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return mix64(((Number) value).longValue() ^ SEED);
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return mix64(Double.doubleToLongBits(((Number) value).doubleValue()) ^ SEED);
+        }
+        if (value instanceof Character) {
+            return mix64((Character) value ^ SEED);
+        }
+        if (value instanceof byte[]) {
+            return hashBytes((byte[]) value);
+        }
+        return mix64(value.hashCode());
+    }
+
+    private static long hashChars(CharSequence chars) {
+        final int length = chars.length();
+        long h = SEED ^ length;
+        int i = 0;
+        for (; i + 4 <= length; i += 4) {
+            h = mixBlock(h, chars.charAt(i)
+                | (long) chars.charAt(i + 1) << 16
+                | (long) chars.charAt(i + 2) << 32
+                | (long) chars.charAt(i + 3) << 48);
+        }
+        if (i < length) {
+            long block = 0;
+            for (int shift = 0; i < length; i++, shift += 16) {
+                block |= (long) chars.charAt(i) << shift;
+            }
+            h = mixBlock(h, block);
+        }
+        return mix64(h);
+    }
+
+    private static long hashBytes(byte[] bytes) {
+        long h = SEED ^ bytes.length;
+        long block = 0;
+        int shift = 0;
+        for (byte b : bytes) {
+            block |= (b & 0xffL) << shift;
+            shift += 8;
+            if (shift == Long.SIZE) {
+                h = mixBlock(h, block);
+                block = 0;
+                shift = 0;
+            }
+        }
+        if (shift > 0) {
+            h = mixBlock(h, block);
+        }
+        return mix64(h);
+    }
+
+    private static long mixBlock(long h, long block) {
+        return Long.rotateLeft(h ^ mix64(block), 27) * 0x87c37b91114253d5L + 0x52dce729L;
+    }
+
+    static long mix64(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
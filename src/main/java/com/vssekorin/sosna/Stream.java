@@ -0,0 +1,712 @@
+package com.vssekorin.sosna;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+public abstract class Stream<T> implements Seq<T>, Ext<Stream<T>> {
+
+    private Stream() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Stream<T> empty() {
+        return (Stream<T>) Empty.INSTANCE;
+    }
+
+    public static <T> Stream<T> cons(T head, Supplier<? extends Stream<T>> tail) {
+        return new Cons<>(head, Lazy.of(tail));
+    }
+
+    public static <T> Stream<T> of(T value) {
+        return new Cons<>(value, Lazy.val(empty()));
+    }
+
+    @SafeVarargs
+    public static <T> Stream<T> of(T... values) {
+        Stream<T> result = empty();
+        for (int i = values.length - 1; i >= 0; i--) {
+            result = new Cons<>(values[i], Lazy.val(result));
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Stream<T> ofAll(Iterable<? extends T> values) {
+        if (values instanceof Stream) {
+            return (Stream<T>) values;
+        }
+        return ofIterator(values.iterator());
+    }
+
+    private static <T> Stream<T> ofIterator(Iterator<? extends T> iterator) {
+        return iterator.hasNext()
+            ? new Cons<>(iterator.next(), Lazy.of(() -> ofIterator(iterator)))
+            : empty();
+    }
+
+    public static <T> Stream<T> iterate(T seed, UnaryOperator<T> next) {
+        return new Cons<>(seed, Lazy.of(() -> iterate(next.apply(seed), next)));
+    }
+
+    public static <T> Stream<T> continually(Supplier<? extends T> supplier) {
+        return new Cons<>(supplier.get(), Lazy.of(() -> continually(supplier)));
+    }
+
+    public List<T> toList() {
+        final ListBuilder<T> builder = new ListBuilder<>();
+        for (Stream<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
+            builder.add(cur.head());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public abstract Stream<T> tail();
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Stream<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
+            size++;
+        }
+        return size;
+    }
+
+    @Override
+    public Tuple2<T, Stream<T>> uncons() {
+        return Tuple.of(head(), tail());
+    }
+
+    @Override
+    public java.util.List<T> asJava() {
+        final java.util.List<T> javaList = new ArrayList<>();
+        for (Stream<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
+            javaList.add(cur.head());
+        }
+        return javaList;
+    }
+
+    @Override
+    public Stream<T> prepend(T value) {
+        return new Cons<>(value, Lazy.val(this));
+    }
+
+    @Override
+    public Stream<T> prependAll(Iterable<? extends T> values) {
+        return Stream.<T>ofAll(values).appendAll(this);
+    }
+
+    @Override
+    public Stream<T> append(T value) {
+        return appendAll(List.of(value));
+    }
+
+    @Override
+    public Stream<T> appendAll(Iterable<? extends T> values) {
+        return new Appended<>(this, Queue.<Iterable<? extends T>>of(values));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Stream<T> concat(Stream<T> prefix, Queue<Iterable<? extends T>> pending) {
+        Stream<T> cur = prefix;
+        Queue<Iterable<? extends T>> rest = pending;
+        while (true) {
+            if (cur instanceof Appended) {
+                final Appended<T> appended = (Appended<T>) cur;
+                rest = appended.pending.appendAll(rest);
+                cur = appended.prefix;
+            } else if (cur.nonEmpty()) {
+                if (rest.isEmpty()) {
+                    return cur;
+                }
+                final Stream<T> stream = cur;
+                final Queue<Iterable<? extends T>> suffixes = rest;
+                return new Cons<>(cur.head(), Lazy.of(() -> concat(stream.tail(), suffixes)));
+            } else if (rest.isEmpty()) {
+                return empty();
+            } else {
+                cur = ofAll(rest.head());
+                rest = rest.tail();
+            }
+        }
+    }
+
+    @Override
+    public Stream<T> reverse() {
+        Stream<T> result = empty();
+        for (Stream<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
+            result = result.prepend(cur.head());
+        }
+        return result;
+    }
+
+    @Override
+    public T last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("last() of empty stream");
+        }
+        Stream<T> cur = this;
+        while (cur.tail().nonEmpty()) {
+            cur = cur.tail();
+        }
+        return cur.head();
+    }
+
+    @Override
+    public Optional<T> lastOpt() {
+        return isEmpty() ? Optional.empty() : Optional.of(last());
+    }
+
+    @Override
+    public boolean contains(Eq<T> equiv, T value) {
+        for (Stream<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
+            if (equiv.eq(cur.head(), value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Stream<T> drop(int n) {
+        Stream<T> cur = this;
+        for (int i = 0; i < n && cur.nonEmpty(); i++) {
+            cur = cur.tail();
+        }
+        return cur;
+    }
+
+    @Override
+    public T get(int n) {
+        if (n < 0) {
+            throw new IndexOutOfBoundsException("get(): n is negative");
+        }
+        final Stream<T> cur = drop(n);
+        if (cur.isEmpty()) {
+            throw new IndexOutOfBoundsException("get(): n is more than length");
+        }
+        return cur.head();
+    }
+
+    @Override
+    public Optional<T> getOpt(int n) {
+        if (n < 0) {
+            throw new IndexOutOfBoundsException("get(): n is negative");
+        }
+        final Stream<T> cur = drop(n);
+        return cur.isEmpty() ? Optional.empty() : Optional.ofNullable(cur.head());
+    }
+
+    @Override
+    public T getOr(int n, T defaultValue) {
+        if (n < 0) {
+            throw new IndexOutOfBoundsException("get(): n is negative");
+        }
+        final Stream<T> cur = drop(n);
+        return cur.isEmpty() ? defaultValue : cur.head();
+    }
+
+    @Override
+    public T getOrGet(int n, Supplier<T> defaultValue) {
+        if (n < 0) {
+            throw new IndexOutOfBoundsException("get(): n is negative");
+        }
+        final Stream<T> cur = drop(n);
+        return cur.isEmpty() ? defaultValue.get() : cur.head();
+    }
+
+    @Override
+    public Stream<T> or(Iterable<? extends T> other) {
+        return isEmpty() ? ofAll(other) : this;
+    }
+
+    @Override
+    public Stream<T> or(Supplier<? extends Iterable<? extends T>> supplier) {
+        return isEmpty() ? ofAll(supplier.get()) : this;
+    }
+
+    private static <T> Stream<T> concat(List<T> reversedPrefix, Stream<T> rest) {
+        Stream<T> result = rest;
+        for (List<T> cur = reversedPrefix; cur.nonEmpty(); cur = cur.tail()) {
+            result = result.prepend(cur.head());
+        }
+        return result;
+    }
+
+    @Override
+    public Stream<T> insert(int pos, T value) {
+        List<T> prefix = List.nil();
+        Stream<T> cur = this;
+        for (int i = 0; i < pos; i++, cur = cur.tail()) {
+            if (cur.isEmpty()) {
+                throw new IndexOutOfBoundsException("insert() with pos = " + pos);
+            }
+            prefix = prefix.prepend(cur.head());
+        }
+        return concat(prefix, cur.prepend(value));
+    }
+
+    @Override
+    public Stream<T> with(int pos, T value) {
+        List<T> prefix = List.nil();
+        Stream<T> cur = this;
+        for (int i = 0; i < pos && cur.nonEmpty(); i++, cur = cur.tail()) {
+            prefix = prefix.prepend(cur.head());
+        }
+        if (cur.isEmpty()) {
+            throw new IndexOutOfBoundsException("with() with pos = " + pos);
+        }
+        return concat(prefix, cur.tail().prepend(value));
+    }
+
+    @Override
+    public <U> Stream<U> map(Function<T, ? extends U> mapper) {
+        return mapIndexed((__, v) -> mapper.apply(v));
+    }
+
+    @Override
+    public <U> Stream<U> mapIndexed(BiFunction<Integer, T, ? extends U> mapper) {
+        return mapIndexed(this, 0, mapper);
+    }
+
+    private static <T, U> Stream<U> mapIndexed(Stream<T> stream, int index, BiFunction<Integer, T, ? extends U> mapper) {
+        if (stream.isEmpty()) {
+            return empty();
+        }
+        return new Cons<>(
+            mapper.apply(index, stream.head()),
+            Lazy.of(() -> mapIndexed(stream.tail(), index + 1, mapper))
+        );
+    }
+
+    @Override
+    public Stream<T> mapIf(Predicate<? super T> condition, Function<? super T, ? extends T> f) {
+        return map(v -> condition.test(v) ? f.apply(v) : v);
+    }
+
+    @Override
+    public <U> Stream<U> mapIf(
+        Predicate<? super T> condition,
+        Function<? super T, ? extends U> thenF,
+        Function<? super T, ? extends U> elseF
+    ) {
+        return map(v -> condition.test(v) ? thenF.apply(v) : elseF.apply(v));
+    }
+
+    @Override
+    public Stream<T> mapIfFirst(Predicate<? super T> condition, Function<? super T, ? extends T> f) {
+        if (isEmpty()) {
+            return this;
+        }
+        if (condition.test(head())) {
+            return new Cons<>(f.apply(head()), Lazy.of(this::tail));
+        }
+        return new Cons<>(head(), Lazy.of(() -> tail().mapIfFirst(condition, f)));
+    }
+
+    @Override
+    public <U> Stream<U> mapNotNull(Function<T, ? extends U> f) {
+        return mapIndexedNotNull((__, v) -> f.apply(v));
+    }
+
+    @Override
+    public <U> Stream<U> mapIndexedNotNull(BiFunction<Integer, T, ? extends U> f) {
+        return mapIndexedNotNull(this, 0, f);
+    }
+
+    private static <T, U> Stream<U> mapIndexedNotNull(Stream<T> stream, int index, BiFunction<Integer, T, ? extends U> f) {
+        Stream<T> cur = stream;
+        int i = index;
+        for (; cur.nonEmpty(); cur = cur.tail(), i++) {
+            final U value = f.apply(i, cur.head());
+            if (value != null) {
+                final Stream<T> rest = cur;
+                final int next = i + 1;
+                return new Cons<>(value, Lazy.of(() -> mapIndexedNotNull(rest.tail(), next, f)));
+            }
+        }
+        return empty();
+    }
+
+    @Override
+    public Stream<T> filter(Predicate<? super T> predicate) {
+        return filterIndexed((__, v) -> predicate.test(v));
+    }
+
+    @Override
+    public Stream<T> filterNot(Predicate<? super T> predicate) {
+        return filter(predicate.negate());
+    }
+
+    @Override
+    public Stream<T> filterNonNull() {
+        return filter(Objects::nonNull);
+    }
+
+    @Override
+    public Stream<T> filterIndexed(BiPredicate<Integer, T> predicate) {
+        return filterIndexed(this, 0, predicate);
+    }
+
+    private static <T> Stream<T> filterIndexed(Stream<T> stream, int index, BiPredicate<Integer, T> predicate) {
+        Stream<T> cur = stream;
+        int i = index;
+        for (; cur.nonEmpty(); cur = cur.tail(), i++) {
+            if (predicate.test(i, cur.head())) {
+                final Stream<T> rest = cur;
+                final int next = i + 1;
+                return new Cons<>(cur.head(), Lazy.of(() -> filterIndexed(rest.tail(), next, predicate)));
+            }
+        }
+        return empty();
+    }
+
+    @Override
+    public Stream<T> distinct() {
+        return distinct(Hash.objectHash());
+    }
+
+    @Override
+    public Stream<T> distinct(Hash<T> hash) {
+        return distinct(this, HashSet.empty(hash));
+    }
+
+    @Override
+    public Stream<T> intersect(Iterable<? extends T> other) {
+        return intersect(Hash.objectHash(), other);
+    }
+
+    @Override
+    public Stream<T> intersect(Hash<T> hash, Iterable<? extends T> other) {
+        final HashSet<T> set = HashSet.ofAll(hash, other);
+        return filter(set::contains);
+    }
+
+    @Override
+    public Stream<T> diff(Iterable<? extends T> other) {
+        return diff(Hash.objectHash(), other);
+    }
+
+    @Override
+    public Stream<T> diff(Hash<T> hash, Iterable<? extends T> other) {
+        final HashSet<T> set = HashSet.ofAll(hash, other);
+        return filterNot(set::contains);
+    }
+
+    private static <T> Stream<T> distinct(Stream<T> stream, HashSet<T> seen) {
+        for (Stream<T> cur = stream; cur.nonEmpty(); cur = cur.tail()) {
+            final HashSet<T> next = seen.add(cur.head());
+            if (next != seen) {
+                final Stream<T> rest = cur;
+                return new Cons<>(cur.head(), Lazy.of(() -> distinct(rest.tail(), next)));
+            }
+        }
+        return empty();
+    }
+
+    @Override
+    public boolean all(Predicate<T> predicate) {
+        for (Stream<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
+            if (!predicate.test(cur.head())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean any(Predicate<T> predicate) {
+        for (Stream<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
+            if (predicate.test(cur.head())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int count(Predicate<T> predicate) {
+        int count = 0;
+        for (Stream<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
+            if (predicate.test(cur.head())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public <U> U match(Supplier<? extends U> ifNil, BiFunction<T, Seq<T>, ? extends U> ifCons) {
+        return isEmpty() ? ifNil.get() : ifCons.apply(head(), tail());
+    }
+
+    @Override
+    public <U> U match(
+        Supplier<? extends U> ifNil,
+        Function<T, ? extends U> ifSingle,
+        Function<T, Function<T, Function<Seq<T>, ? extends U>>> ifMultiple
+    ) {
+        if (isEmpty()) {
+            return ifNil.get();
+        } else if (tail().isEmpty()) {
+            return ifSingle.apply(head());
+        } else {
+            return ifMultiple.apply(head()).apply(tail().head()).apply(tail().tail());
+        }
+    }
+
+    @Override
+    public Stream<T> take(int n) {
+        if (n <= 0 || isEmpty()) {
+            return empty();
+        }
+        return new Cons<>(head(), Lazy.of(() -> tail().take(n - 1)));
+    }
+
+    @Override
+    public Stream<T> takeWhile(Predicate<T> cond) {
+        if (isEmpty() || !cond.test(head())) {
+            return empty();
+        }
+        return new Cons<>(head(), Lazy.of(() -> tail().takeWhile(cond)));
+    }
+
+    @Override
+    public Stream<T> takeRight(int n) {
+        if (n <= 0) {
+            return empty();
+        }
+        Stream<T> result = this;
+        Stream<T> cur = drop(n);
+        while (cur.nonEmpty()) {
+            result = result.tail();
+            cur = cur.tail();
+        }
+        return result;
+    }
+
+    @Override
+    public Stream<T> takeRightWhile(Predicate<T> cond) {
+        Stream<T> start = empty();
+        for (Stream<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
+            if (cond.test(cur.head())) {
+                if (start.isEmpty()) {
+                    start = cur;
+                }
+            } else {
+                start = empty();
+            }
+        }
+        return start;
+    }
+
+    @Override
+    public <U> Stream<Tuple2<T, U>> zip(Iterable<? extends U> that) {
+        return zip(this, that.iterator());
+    }
+
+    private static <T, U> Stream<Tuple2<T, U>> zip(Stream<T> stream, Iterator<? extends U> iterator) {
+        if (stream.isEmpty() || !iterator.hasNext()) {
+            return empty();
+        }
+        return new Cons<>(
+            new Tuple2<>(stream.head(), iterator.next()),
+            Lazy.of(() -> zip(stream.tail(), iterator))
+        );
+    }
+
+    @Override
+    public Stream<Tuple2<T, Integer>> zipWithIndex() {
+        return mapIndexed((i, v) -> new Tuple2<>(v, i));
+    }
+
+    @Override
+    public <U> U foldLeft(U zero, BiFunction<? super U, ? super T, ? extends U> func) {
+        U result = zero;
+        for (Stream<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
+            result = func.apply(result, cur.head());
+        }
+        return result;
+    }
+
+    @Override
+    public <U> U foldRight(U zero, BiFunction<? super T, ? super U, ? extends U> func) {
+        return toList().foldRight(zero, func);
+    }
+
+    @Override
+    public <U> Stream<U> scanLeft(U zero, BiFunction<? super U, ? super T, ? extends U> func) {
+        return new Cons<>(zero, Lazy.of(() -> isEmpty() ? empty() : tail().scanLeft(func.apply(zero, head()), func)));
+    }
+
+    @Override
+    public <U> Stream<U> scanRight(U zero, BiFunction<? super T, ? super U, ? extends U> func) {
+        return ofAll(toList().scanRight(zero, func));
+    }
+
+    @Override
+    public Stream<T> parallelScan(Monoid<T> monoid) {
+        return parallelScan(monoid, ForkJoinPool.commonPool());
+    }
+
+    @Override
+    public Stream<T> parallelScan(Monoid<T> monoid, Executor executor) {
+        return ofAll(toList().parallelScan(monoid, executor));
+    }
+
+    @Override
+    public T reduceLeft(BiFunction<? super T, ? super T, ? extends T> func) {
+        if (isEmpty()) {
+            throw new NoSuchElementException("reduceLeft of empty stream");
+        }
+        return tail().foldLeft(head(), func);
+    }
+
+    @Override
+    public T reduceRight(BiFunction<? super T, ? super T, ? extends T> func) {
+        if (isEmpty()) {
+            throw new NoSuchElementException("reduceRight of empty stream");
+        }
+        return toList().reduceRight(func);
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) return true;
+        if (!(that instanceof Stream)) return false;
+        Stream<?> stream = (Stream<?>) that;
+        Stream<T> cur = this;
+        for (; cur.nonEmpty() && stream.nonEmpty(); cur = cur.tail(), stream = stream.tail()) {
+            if (cur == stream) {
+                return true;
+            }
+            if (!Objects.equals(cur.head(), stream.head())) {
+                return false;
+            }
+        }
+        return cur.isEmpty() && stream.isEmpty();
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (Stream<T> cur = this; cur.nonEmpty(); cur = cur.tail()) {
+            hashCode = 31 * hashCode + Objects.hashCode(cur.head());
+        }
+        return hashCode;
+    }
+
+    private static final class Empty<T> extends Stream<T> {
+
+        private static final Empty<?> INSTANCE = new Empty<>();
+
+        @Override
+        public boolean isEmpty() {
+            return true;
+        }
+
+        @Override
+        public T head() {
+            throw new NoSuchElementException("head() of empty stream");
+        }
+
+        @Override
+        public Optional<T> headOpt() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Stream<T> tail() {
+            throw new UnsupportedOperationException("tail() of empty stream");
+        }
+
+        @Override
+        public Tuple2<T, Stream<T>> uncons() {
+            throw new UnsupportedOperationException("uncons() of empty stream");
+        }
+
+        @Override
+        public Stream<T> appendAll(Iterable<? extends T> values) {
+            return ofAll(values);
+        }
+    }
+
+    private static final class Appended<T> extends Stream<T> {
+
+        private final Stream<T> prefix;
+        private final Queue<Iterable<? extends T>> pending;
+        private final Lazy<Stream<T>> resolved;
+
+        private Appended(Stream<T> prefix, Queue<Iterable<? extends T>> pending) {
+            this.prefix = prefix;
+            this.pending = pending;
+            this.resolved = Lazy.of(() -> concat(prefix, pending));
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return resolved.get().isEmpty();
+        }
+
+        @Override
+        public T head() {
+            return resolved.get().head();
+        }
+
+        @Override
+        public Optional<T> headOpt() {
+            return resolved.get().headOpt();
+        }
+
+        @Override
+        public Stream<T> tail() {
+            return resolved.get().tail();
+        }
+
+        @Override
+        public Stream<T> appendAll(Iterable<? extends T> values) {
+            return new Appended<>(prefix, pending.append(values));
+        }
+    }
+
+    private static final class Cons<T> extends Stream<T> {
+
+        private final T head;
+        private final Lazy<Stream<T>> tail;
+
+        private Cons(T head, Lazy<Stream<T>> tail) {
+            this.head = head;
+            this.tail = tail;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public T head() {
+            return head;
+        }
+
+        @Override
+        public Optional<T> headOpt() {
+            return Optional.of(head);
+        }
+
+        @Override
+        public Stream<T> tail() {
+            return tail.get();
+        }
+    }
+}
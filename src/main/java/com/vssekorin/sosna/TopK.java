@@ -0,0 +1,86 @@
+package com.vssekorin.sosna;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+
+public final class TopK<T> implements Iterable<T>, Serializable {
+
+    private final List<T> values;
+
+    private TopK(List<T> values) {
+        this.values = values;
+    }
+
+    public static <T> TopK<T> of(T value) {
+        return new TopK<>(List.of(value));
+    }
+
+    public List<T> toList() {
+        return values;
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return values.iterator();
+    }
+
+    static final class Merging<T> implements Monoid<TopK<T>>, Accumulating<TopK<T>, PriorityQueue<T>> {
+
+        private final int k;
+        private final Comparator<? super T> comparator;
+        private final TopK<T> empty = new TopK<>(List.nil());
+
+        Merging(int k, Comparator<? super T> comparator) {
+            if (k <= 0) {
+                throw new IllegalArgumentException("TopK size must be positive: " + k);
+            }
+            this.k = k;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public TopK<T> empty() {
+            return empty;
+        }
+
+        @Override
+        public TopK<T> combine(TopK<T> x, TopK<T> y) {
+            final PriorityQueue<T> acc = supply();
+            accumulate(acc, x);
+            accumulate(acc, y);
+            return finish(acc);
+        }
+
+        @Override
+        public PriorityQueue<T> supply() {
+            return new PriorityQueue<>(k + 1, comparator);
+        }
+
+        @Override
+        public void accumulate(PriorityQueue<T> acc, TopK<T> value) {
+            for (T candidate : value.values) {
+                if (acc.size() < k) {
+                    acc.add(candidate);
+                } else if (comparator.compare(candidate, acc.peek()) > 0) {
+                    acc.poll();
+                    acc.add(candidate);
+                }
+            }
+        }
+
+        @Override
+        public TopK<T> finish(PriorityQueue<T> acc) {
+            List<T> result = List.nil();
+            while (!acc.isEmpty()) {
+                result = result.prepend(acc.poll());
+            }
+            return new TopK<>(result);
+        }
+    }
+}
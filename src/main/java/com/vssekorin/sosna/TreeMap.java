@@ -0,0 +1,647 @@
+package com.vssekorin.sosna;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+public final class TreeMap<K, V> implements Iterable<Tuple2<K, V>>, Foldable<Tuple2<K, V>>, Ext<TreeMap<K, V>>, Serializable {
+
+    private static final TreeMap<?, ?> EMPTY = new TreeMap<>(naturalOrder(), null, null);
+
+    private final Comparator<? super K> comparator;
+    private final Node<K, V> root;
+    private final Range<K> range;
+
+    private TreeMap(Comparator<? super K> comparator, Node<K, V> root, Range<K> range) {
+        this.comparator = comparator;
+        this.root = root;
+        this.range = range;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> Comparator<? super K> naturalOrder() {
+        return (Comparator<? super K>) Comparator.naturalOrder();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K extends Comparable<? super K>, V> TreeMap<K, V> empty() {
+        return (TreeMap<K, V>) EMPTY;
+    }
+
+    public static <K, V> TreeMap<K, V> empty(Comparator<? super K> comparator) {
+        return new TreeMap<>(comparator, null, null);
+    }
+
+    public static <K extends Comparable<? super K>, V> TreeMap<K, V> of(K key, V value) {
+        return TreeMap.<K, V>empty().put(key, value);
+    }
+
+    @SafeVarargs
+    public static <K, V> TreeMap<K, V> ofEntries(Comparator<? super K> comparator, Tuple2<? extends K, ? extends V>... entries) {
+        TreeMap<K, V> result = empty(comparator);
+        for (Tuple2<? extends K, ? extends V> entry : entries) {
+            result = result.put(entry._1(), entry._2());
+        }
+        return result;
+    }
+
+    public static <K, V> TreeMap<K, V> ofAll(Comparator<? super K> comparator, Iterable<? extends Tuple2<? extends K, ? extends V>> entries) {
+        return TreeMap.<K, V>empty(comparator).putAll(entries);
+    }
+
+    public static <K, V> TreeMap<K, V> ofAll(Comparator<? super K> comparator, Map<? extends K, ? extends V> map) {
+        TreeMap<K, V> result = empty(comparator);
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            result = result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    public Comparator<? super K> comparator() {
+        return comparator;
+    }
+
+    private TreeMap<K, V> withRoot(Node<K, V> newRoot) {
+        return newRoot == root ? this : new TreeMap<>(comparator, newRoot, range);
+    }
+
+    private boolean inRange(K key) {
+        return range == null || range.aboveFrom(key, comparator) && range.belowTo(key, comparator);
+    }
+
+    public int size() {
+        if (range == null) {
+            return Node.size(root);
+        }
+        final int upper = range.hasTo ? rank(range.to) : Node.size(root);
+        final int lower = range.hasFrom ? rank(range.from) : 0;
+        return Math.max(upper - lower, 0);
+    }
+
+    private int rank(K key) {
+        int rank = 0;
+        Node<K, V> cur = root;
+        while (cur != null) {
+            if (comparator.compare(key, cur.entry._1()) <= 0) {
+                cur = cur.left;
+            } else {
+                rank += Node.size(cur.left) + 1;
+                cur = cur.right;
+            }
+        }
+        return rank;
+    }
+
+    public boolean isEmpty() {
+        return range == null ? root == null : minNode() == null;
+    }
+
+    public boolean nonEmpty() {
+        return !isEmpty();
+    }
+
+    private Node<K, V> find(K key) {
+        if (!inRange(key)) {
+            return null;
+        }
+        Node<K, V> cur = root;
+        while (cur != null) {
+            final int cmp = comparator.compare(key, cur.entry._1());
+            if (cmp == 0) {
+                return cur;
+            }
+            cur = cmp < 0 ? cur.left : cur.right;
+        }
+        return null;
+    }
+
+    public Optional<V> get(K key) {
+        final Node<K, V> node = find(key);
+        return node == null ? Optional.empty() : Optional.ofNullable(node.entry._2());
+    }
+
+    public V getOrNull(K key) {
+        return getOr(key, null);
+    }
+
+    public V getOr(K key, V defaultValue) {
+        final Node<K, V> node = find(key);
+        return node == null ? defaultValue : node.entry._2();
+    }
+
+    public boolean containsKey(K key) {
+        return find(key) != null;
+    }
+
+    public TreeMap<K, V> put(K key, V value) {
+        if (!inRange(key)) {
+            throw new IllegalArgumentException("put() key is out of range");
+        }
+        return withRoot(Node.blacken(Node.insert(root, new Tuple2<>(key, value), comparator)));
+    }
+
+    public TreeMap<K, V> put(Tuple2<? extends K, ? extends V> entry) {
+        return put(entry._1(), entry._2());
+    }
+
+    public TreeMap<K, V> putAll(Iterable<? extends Tuple2<? extends K, ? extends V>> entries) {
+        TreeMap<K, V> result = this;
+        for (Tuple2<? extends K, ? extends V> entry : entries) {
+            result = result.put(entry._1(), entry._2());
+        }
+        return result;
+    }
+
+    public TreeMap<K, V> remove(K key) {
+        if (find(key) == null) {
+            return this;
+        }
+        return withRoot(Node.blacken(Node.delete(root, key, comparator)));
+    }
+
+    public Optional<Tuple2<K, V>> min() {
+        return entryOf(minNode());
+    }
+
+    public Optional<Tuple2<K, V>> max() {
+        return entryOf(maxNode());
+    }
+
+    public Optional<Tuple2<K, V>> floor(K key) {
+        final Node<K, V> node = range != null && range.hasTo && comparator.compare(key, range.to) >= 0
+            ? floorNode(range.to, false)
+            : floorNode(key, true);
+        return entryOf(node == null || range != null && !range.aboveFrom(node.entry._1(), comparator) ? null : node);
+    }
+
+    public Optional<Tuple2<K, V>> ceiling(K key) {
+        final Node<K, V> node = range != null && range.hasFrom && comparator.compare(key, range.from) < 0
+            ? ceilingNode(range.from)
+            : ceilingNode(key);
+        return entryOf(node == null || range != null && !range.belowTo(node.entry._1(), comparator) ? null : node);
+    }
+
+    public TreeMap<K, V> range(K from, K to) {
+        return new TreeMap<>(comparator, root, Range.intersect(range, new Range<>(from, true, to, true), comparator));
+    }
+
+    public TreeMap<K, V> from(K from) {
+        return new TreeMap<>(comparator, root, Range.intersect(range, new Range<>(from, true, null, false), comparator));
+    }
+
+    public TreeMap<K, V> until(K to) {
+        return new TreeMap<>(comparator, root, Range.intersect(range, new Range<>(null, false, to, true), comparator));
+    }
+
+    private Optional<Tuple2<K, V>> entryOf(Node<K, V> node) {
+        return node == null ? Optional.empty() : Optional.of(node.entry);
+    }
+
+    private Node<K, V> minNode() {
+        final Node<K, V> node = range != null && range.hasFrom ? ceilingNode(range.from) : Node.leftmost(root);
+        return node == null || range != null && !range.belowTo(node.entry._1(), comparator) ? null : node;
+    }
+
+    private Node<K, V> maxNode() {
+        final Node<K, V> node = range != null && range.hasTo ? floorNode(range.to, false) : Node.rightmost(root);
+        return node == null || range != null && !range.aboveFrom(node.entry._1(), comparator) ? null : node;
+    }
+
+    private Node<K, V> floorNode(K key, boolean inclusive) {
+        Node<K, V> result = null;
+        Node<K, V> cur = root;
+        while (cur != null) {
+            final int cmp = comparator.compare(key, cur.entry._1());
+            if (cmp > 0 || inclusive && cmp == 0) {
+                result = cur;
+                cur = cur.right;
+            } else {
+                cur = cur.left;
+            }
+        }
+        return result;
+    }
+
+    private Node<K, V> ceilingNode(K key) {
+        Node<K, V> result = null;
+        Node<K, V> cur = root;
+        while (cur != null) {
+            if (comparator.compare(key, cur.entry._1()) <= 0) {
+                result = cur;
+                cur = cur.left;
+            } else {
+                cur = cur.right;
+            }
+        }
+        return result;
+    }
+
+    public List<K> keys() {
+        final ListBuilder<K> result = new ListBuilder<>();
+        for (Tuple2<K, V> entry : this) {
+            result.add(entry._1());
+        }
+        return result.build();
+    }
+
+    public List<V> values() {
+        final ListBuilder<V> result = new ListBuilder<>();
+        for (Tuple2<K, V> entry : this) {
+            result.add(entry._2());
+        }
+        return result.build();
+    }
+
+    public <U> TreeMap<K, U> mapValues(Function<? super V, ? extends U> mapper) {
+        return new TreeMap<>(comparator, Node.mapValues(root, mapper), range);
+    }
+
+    public Map<K, V> asJava() {
+        final Map<K, V> javaMap = new LinkedHashMap<>();
+        for (Tuple2<K, V> entry : this) {
+            javaMap.put(entry._1(), entry._2());
+        }
+        return javaMap;
+    }
+
+    @Override
+    public Iterator<Tuple2<K, V>> iterator() {
+        return new NodeIterator<>(this);
+    }
+
+    @Override
+    public <U> U foldLeft(U zero, BiFunction<? super U, ? super Tuple2<K, V>, ? extends U> func) {
+        U result = zero;
+        for (Tuple2<K, V> entry : this) {
+            result = func.apply(result, entry);
+        }
+        return result;
+    }
+
+    @Override
+    public <U> U foldRight(U zero, BiFunction<? super Tuple2<K, V>, ? super U, ? extends U> func) {
+        List<Tuple2<K, V>> reversed = List.nil();
+        for (Tuple2<K, V> entry : this) {
+            reversed = reversed.prepend(entry);
+        }
+        return reversed.foldLeft(zero, (acc, v) -> func.apply(v, acc));
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+        TreeMap<?, ?> map = (TreeMap<?, ?>) that;
+        if (size() != map.size()) return false;
+        final Iterator<? extends Tuple2<?, ?>> other = map.iterator();
+        for (Tuple2<K, V> entry : this) {
+            if (!entry.equals(other.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (Tuple2<K, V> entry : this) {
+            hashCode += Objects.hashCode(entry._1()) ^ Objects.hashCode(entry._2());
+        }
+        return hashCode;
+    }
+
+    private static final class Range<K> implements Serializable {
+
+        private final K from;
+        private final boolean hasFrom;
+        private final K to;
+        private final boolean hasTo;
+
+        private Range(K from, boolean hasFrom, K to, boolean hasTo) {
+            this.from = from;
+            this.hasFrom = hasFrom;
+            this.to = to;
+            this.hasTo = hasTo;
+        }
+
+        private boolean aboveFrom(K key, Comparator<? super K> comparator) {
+            return !hasFrom || comparator.compare(key, from) >= 0;
+        }
+
+        private boolean belowTo(K key, Comparator<? super K> comparator) {
+            return !hasTo || comparator.compare(key, to) < 0;
+        }
+
+        private static <K> Range<K> intersect(Range<K> current, Range<K> next, Comparator<? super K> comparator) {
+            if (current == null) {
+                return next;
+            }
+            final boolean keepFrom = !next.hasFrom || current.hasFrom && comparator.compare(current.from, next.from) > 0;
+            final boolean keepTo = !next.hasTo || current.hasTo && comparator.compare(current.to, next.to) < 0;
+            return new Range<>(
+                keepFrom ? current.from : next.from,
+                current.hasFrom || next.hasFrom,
+                keepTo ? current.to : next.to,
+                current.hasTo || next.hasTo
+            );
+        }
+    }
+
+    private static final class Node<K, V> implements Serializable {
+
+        private final Tuple2<K, V> entry;
+        private final Node<K, V> left;
+        private final Node<K, V> right;
+        private final boolean red;
+        private final int size;
+
+        private Node(boolean red, Tuple2<K, V> entry, Node<K, V> left, Node<K, V> right) {
+            this.entry = entry;
+            this.left = left;
+            this.right = right;
+            this.red = red;
+            this.size = size(left) + size(right) + 1;
+        }
+
+        private static int size(Node<?, ?> node) {
+            return node == null ? 0 : node.size;
+        }
+
+        private static boolean isRed(Node<?, ?> node) {
+            return node != null && node.red;
+        }
+
+        private static boolean isBlack(Node<?, ?> node) {
+            return node != null && !node.red;
+        }
+
+        private static <K, V> Node<K, V> red(Tuple2<K, V> entry, Node<K, V> left, Node<K, V> right) {
+            return new Node<>(true, entry, left, right);
+        }
+
+        private static <K, V> Node<K, V> black(Tuple2<K, V> entry, Node<K, V> left, Node<K, V> right) {
+            return new Node<>(false, entry, left, right);
+        }
+
+        private static <K, V> Node<K, V> blacken(Node<K, V> node) {
+            return node == null || !node.red ? node : black(node.entry, node.left, node.right);
+        }
+
+        private static <K, V> Node<K, V> redden(Node<K, V> node) {
+            return node.red ? node : red(node.entry, node.left, node.right);
+        }
+
+        private static <K, V> Node<K, V> leftmost(Node<K, V> node) {
+            if (node == null) {
+                return null;
+            }
+            Node<K, V> cur = node;
+            while (cur.left != null) {
+                cur = cur.left;
+            }
+            return cur;
+        }
+
+        private static <K, V> Node<K, V> rightmost(Node<K, V> node) {
+            if (node == null) {
+                return null;
+            }
+            Node<K, V> cur = node;
+            while (cur.right != null) {
+                cur = cur.right;
+            }
+            return cur;
+        }
+
+        private static <K, V> Node<K, V> insert(Node<K, V> node, Tuple2<K, V> entry, Comparator<? super K> comparator) {
+            if (node == null) {
+                return red(entry, null, null);
+            }
+            final int cmp = comparator.compare(entry._1(), node.entry._1());
+            if (cmp < 0) {
+                final Node<K, V> left = insert(node.left, entry, comparator);
+                return left == node.left ? node : balanceLeft(node.red, node.entry, left, node.right);
+            }
+            if (cmp > 0) {
+                final Node<K, V> right = insert(node.right, entry, comparator);
+                return right == node.right ? node : balanceRight(node.red, node.entry, node.left, right);
+            }
+            if (node.entry._2() == entry._2()) {
+                return node;
+            }
+            return new Node<>(node.red, entry, node.left, node.right);
+        }
+
+        private static <K, V> Node<K, V> balanceLeft(boolean red, Tuple2<K, V> entry, Node<K, V> left, Node<K, V> right) {
+            if (isRed(left) && isRed(left.left)) {
+                return red(left.entry, blacken(left.left), black(entry, left.right, right));
+            }
+            if (isRed(left) && isRed(left.right)) {
+                return red(
+                    left.right.entry,
+                    black(left.entry, left.left, left.right.left),
+                    black(entry, left.right.right, right)
+                );
+            }
+            return new Node<>(red, entry, left, right);
+        }
+
+        private static <K, V> Node<K, V> balanceRight(boolean red, Tuple2<K, V> entry, Node<K, V> left, Node<K, V> right) {
+            if (isRed(right) && isRed(right.left)) {
+                return red(
+                    right.left.entry,
+                    black(entry, left, right.left.left),
+                    black(right.entry, right.left.right, right.right)
+                );
+            }
+            if (isRed(right) && isRed(right.right)) {
+                return red(right.entry, black(entry, left, right.left), blacken(right.right));
+            }
+            return new Node<>(red, entry, left, right);
+        }
+
+        private static <K, V> Node<K, V> delete(Node<K, V> node, K key, Comparator<? super K> comparator) {
+            if (node == null) {
+                return null;
+            }
+            final int cmp = comparator.compare(key, node.entry._1());
+            if (cmp < 0) {
+                final Node<K, V> left = delete(node.left, key, comparator);
+                return isBlack(node.left)
+                    ? balanceAfterLeftDelete(node.entry, left, node.right)
+                    : red(node.entry, left, node.right);
+            }
+            if (cmp > 0) {
+                final Node<K, V> right = delete(node.right, key, comparator);
+                return isBlack(node.right)
+                    ? balanceAfterRightDelete(node.entry, node.left, right)
+                    : red(node.entry, node.left, right);
+            }
+            return join(node.left, node.right);
+        }
+
+        private static <K, V> Node<K, V> balance(Tuple2<K, V> entry, Node<K, V> left, Node<K, V> right) {
+            if (isRed(left)) {
+                if (isRed(right)) {
+                    return red(entry, blacken(left), blacken(right));
+                }
+                if (isRed(left.left)) {
+                    return red(left.entry, blacken(left.left), black(entry, left.right, right));
+                }
+                if (isRed(left.right)) {
+                    return red(
+                        left.right.entry,
+                        black(left.entry, left.left, left.right.left),
+                        black(entry, left.right.right, right)
+                    );
+                }
+            } else if (isRed(right)) {
+                if (isRed(right.right)) {
+                    return red(right.entry, black(entry, left, right.left), blacken(right.right));
+                }
+                if (isRed(right.left)) {
+                    return red(
+                        right.left.entry,
+                        black(entry, left, right.left.left),
+                        black(right.entry, right.left.right, right.right)
+                    );
+                }
+            }
+            return black(entry, left, right);
+        }
+
+        private static <K, V> Node<K, V> balanceAfterLeftDelete(Tuple2<K, V> entry, Node<K, V> left, Node<K, V> right) {
+            if (isRed(left)) {
+                return red(entry, blacken(left), right);
+            }
+            if (isBlack(right)) {
+                return balance(entry, left, redden(right));
+            }
+            if (isRed(right) && isBlack(right.left)) {
+                return red(
+                    right.left.entry,
+                    black(entry, left, right.left.left),
+                    balance(right.entry, right.left.right, redden(right.right))
+                );
+            }
+            throw new IllegalStateException("red-black invariant violated");
+        }
+
+        private static <K, V> Node<K, V> balanceAfterRightDelete(Tuple2<K, V> entry, Node<K, V> left, Node<K, V> right) {
+            if (isRed(right)) {
+                return red(entry, left, blacken(right));
+            }
+            if (isBlack(left)) {
+                return balance(entry, redden(left), right);
+            }
+            if (isRed(left) && isBlack(left.right)) {
+                return red(
+                    left.right.entry,
+                    balance(left.entry, redden(left.left), left.right.left),
+                    black(entry, left.right.right, right)
+                );
+            }
+            throw new IllegalStateException("red-black invariant violated");
+        }
+
+        private static <K, V> Node<K, V> join(Node<K, V> left, Node<K, V> right) {
+            if (left == null) {
+                return right;
+            }
+            if (right == null) {
+                return left;
+            }
+            if (left.red && right.red) {
+                final Node<K, V> middle = join(left.right, right.left);
+                if (isRed(middle)) {
+                    return red(
+                        middle.entry,
+                        red(left.entry, left.left, middle.left),
+                        red(right.entry, middle.right, right.right)
+                    );
+                }
+                return red(left.entry, left.left, red(right.entry, middle, right.right));
+            }
+            if (!left.red && !right.red) {
+                final Node<K, V> middle = join(left.right, right.left);
+                if (isRed(middle)) {
+                    return red(
+                        middle.entry,
+                        black(left.entry, left.left, middle.left),
+                        black(right.entry, middle.right, right.right)
+                    );
+                }
+                return balanceAfterLeftDelete(left.entry, left.left, black(right.entry, middle, right.right));
+            }
+            if (right.red) {
+                return red(right.entry, join(left, right.left), right.right);
+            }
+            return red(left.entry, left.left, join(left.right, right));
+        }
+
+        private static <K, V, U> Node<K, U> mapValues(Node<K, V> node, Function<? super V, ? extends U> mapper) {
+            if (node == null) {
+                return null;
+            }
+            return new Node<>(
+                node.red,
+                new Tuple2<>(node.entry._1(), mapper.apply(node.entry._2())),
+                mapValues(node.left, mapper),
+                mapValues(node.right, mapper)
+            );
+        }
+    }
+
+    private static final class NodeIterator<K, V> implements Iterator<Tuple2<K, V>> {
+
+        private final TreeMap<K, V> map;
+        private final Object[] stack;
+        private int depth;
+
+        private NodeIterator(TreeMap<K, V> map) {
+            this.map = map;
+            this.stack = new Object[2 * (Integer.SIZE - Integer.numberOfLeadingZeros(Node.size(map.root) + 1))];
+            Node<K, V> cur = map.root;
+            final Range<K> range = map.range;
+            while (cur != null) {
+                if (range == null || range.aboveFrom(cur.entry._1(), map.comparator)) {
+                    stack[depth++] = cur;
+                    cur = cur.left;
+                } else {
+                    cur = cur.right;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private Node<K, V> peek() {
+            return (Node<K, V>) stack[depth - 1];
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth > 0 && (map.range == null || map.range.belowTo(peek().entry._1(), map.comparator));
+        }
+
+        @Override
+        public Tuple2<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Node<K, V> node = peek();
+            stack[--depth] = null;
+            for (Node<K, V> cur = node.right; cur != null; cur = cur.left) {
+                stack[depth++] = cur;
+            }
+            return node.entry;
+        }
+    }
+}
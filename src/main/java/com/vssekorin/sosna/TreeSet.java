@@ -0,0 +1,178 @@
+package com.vssekorin.sosna;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+public final class TreeSet<T> implements Iterable<T>, Foldable<T>, Ext<TreeSet<T>>, Serializable {
+
+    private static final TreeSet<?> EMPTY = naturalEmpty();
+
+    private final TreeMap<T, T> map;
+
+    private TreeSet(TreeMap<T, T> map) {
+        this.map = map;
+    }
+
+    private static <T extends Comparable<? super T>> TreeSet<T> naturalEmpty() {
+        final TreeMap<T, T> map = TreeMap.empty();
+        return new TreeSet<>(map);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<? super T>> TreeSet<T> empty() {
+        return (TreeSet<T>) EMPTY;
+    }
+
+    public static <T> TreeSet<T> empty(Comparator<? super T> comparator) {
+        return new TreeSet<>(TreeMap.empty(comparator));
+    }
+
+    @SafeVarargs
+    public static <T extends Comparable<? super T>> TreeSet<T> of(T... values) {
+        TreeSet<T> result = empty();
+        for (T value : values) {
+            result = result.add(value);
+        }
+        return result;
+    }
+
+    public static <T> TreeSet<T> ofAll(Comparator<? super T> comparator, Iterable<? extends T> values) {
+        return TreeSet.<T>empty(comparator).addAll(values);
+    }
+
+    private TreeSet<T> wrap(TreeMap<T, T> newMap) {
+        return newMap == map ? this : new TreeSet<>(newMap);
+    }
+
+    public Comparator<? super T> comparator() {
+        return map.comparator();
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    public boolean nonEmpty() {
+        return map.nonEmpty();
+    }
+
+    public boolean contains(T value) {
+        return map.containsKey(value);
+    }
+
+    public TreeSet<T> add(T value) {
+        return map.containsKey(value) ? this : wrap(map.put(value, value));
+    }
+
+    public TreeSet<T> addAll(Iterable<? extends T> values) {
+        TreeSet<T> result = this;
+        for (T value : values) {
+            result = result.add(value);
+        }
+        return result;
+    }
+
+    public TreeSet<T> remove(T value) {
+        return wrap(map.remove(value));
+    }
+
+    public Optional<T> min() {
+        return map.min().map(Tuple2::_1);
+    }
+
+    public Optional<T> max() {
+        return map.max().map(Tuple2::_1);
+    }
+
+    public Optional<T> floor(T value) {
+        return map.floor(value).map(Tuple2::_1);
+    }
+
+    public Optional<T> ceiling(T value) {
+        return map.ceiling(value).map(Tuple2::_1);
+    }
+
+    public TreeSet<T> range(T from, T to) {
+        return new TreeSet<>(map.range(from, to));
+    }
+
+    public TreeSet<T> from(T from) {
+        return new TreeSet<>(map.from(from));
+    }
+
+    public TreeSet<T> until(T to) {
+        return new TreeSet<>(map.until(to));
+    }
+
+    public List<T> toList() {
+        return map.keys();
+    }
+
+    public Set<T> asJava() {
+        final Set<T> javaSet = new LinkedHashSet<>();
+        for (T value : this) {
+            javaSet.add(value);
+        }
+        return javaSet;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        final Iterator<Tuple2<T, T>> entries = map.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return entries.next()._1();
+            }
+        };
+    }
+
+    @Override
+    public <U> U foldLeft(U zero, BiFunction<? super U, ? super T, ? extends U> func) {
+        return map.foldLeft(zero, (acc, entry) -> func.apply(acc, entry._1()));
+    }
+
+    @Override
+    public <U> U foldRight(U zero, BiFunction<? super T, ? super U, ? extends U> func) {
+        return map.foldRight(zero, (entry, acc) -> func.apply(entry._1(), acc));
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+        TreeSet<?> set = (TreeSet<?>) that;
+        if (size() != set.size()) return false;
+        final Iterator<?> other = set.iterator();
+        for (T value : this) {
+            if (!Objects.equals(value, other.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (T value : this) {
+            hashCode += Objects.hashCode(value);
+        }
+        return hashCode;
+    }
+}
@@ -0,0 +1,746 @@
+package com.vssekorin.sosna;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public final class Vector<T> implements Seq<T>, Ext<Vector<T>> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] EMPTY_NODE = new Object[0];
+    private static final Vector<?> EMPTY = new Vector<>(0, BITS, EMPTY_NODE, EMPTY_NODE);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private Vector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Vector<T> empty() {
+        return (Vector<T>) EMPTY;
+    }
+
+    public static <T> Vector<T> of(T value) {
+        return new Vector<>(1, BITS, EMPTY_NODE, new Object[]{value});
+    }
+
+    @SafeVarargs
+    public static <T> Vector<T> of(T... values) {
+        final Object[] array = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            array[i] = values[i];
+        }
+        return ofArray(array, array.length);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Vector<T> ofAll(Iterable<? extends T> values) {
+        if (values instanceof Vector) {
+            return (Vector<T>) values;
+        }
+        if (values instanceof Collection) {
+            final Object[] array = ((Collection<?>) values).toArray();
+            return ofArray(array, array.length);
+        }
+        final Builder<T> builder = new Builder<>();
+        for (T value : values) {
+            builder.add(value);
+        }
+        return builder.build();
+    }
+
+    public static <T> Vector<T> replicate(int n, T value) {
+        final Object[] array = new Object[Math.max(n, 0)];
+        Arrays.fill(array, value);
+        return ofArray(array, array.length);
+    }
+
+    private static <T> Vector<T> ofArray(Object[] values, int length) {
+        if (length == 0) {
+            return empty();
+        }
+        final int tailOffset = ((length - 1) >>> BITS) << BITS;
+        final Object[] tail = Arrays.copyOfRange(values, tailOffset, length);
+        if (tailOffset == 0) {
+            return new Vector<>(length, BITS, EMPTY_NODE, tail);
+        }
+        Object[] nodes = new Object[tailOffset >>> BITS];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = Arrays.copyOfRange(values, i << BITS, (i + 1) << BITS);
+        }
+        int shift = BITS;
+        while (nodes.length > WIDTH) {
+            final Object[] parents = new Object[(nodes.length + MASK) >>> BITS];
+            for (int i = 0; i < parents.length; i++) {
+                parents[i] = Arrays.copyOfRange(nodes, i << BITS, Math.min((i + 1) << BITS, nodes.length));
+            }
+            nodes = parents;
+            shift += BITS;
+        }
+        return new Vector<>(length, shift, nodes, tail);
+    }
+
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T at(int index) {
+        return (T) leafFor(index)[index & MASK];
+    }
+
+    private Object[] toArray() {
+        final Object[] array = new Object[size];
+        int i = 0;
+        for (T value : this) {
+            array[i++] = value;
+        }
+        return array;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public T head() {
+        if (size == 0) {
+            throw new NoSuchElementException("head() of empty vector");
+        }
+        return at(0);
+    }
+
+    @Override
+    public Optional<T> headOpt() {
+        return size == 0 ? Optional.empty() : Optional.of(at(0));
+    }
+
+    @Override
+    public Vector<T> tail() {
+        if (size == 0) {
+            throw new UnsupportedOperationException("tail() of empty vector");
+        }
+        return ofArray(Arrays.copyOfRange(toArray(), 1, size), size - 1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Tuple2<T, Vector<T>> uncons() {
+        if (size == 0) {
+            throw new UnsupportedOperationException("uncons() of empty vector");
+        }
+        return Tuple.of(head(), tail());
+    }
+
+    @Override
+    public java.util.List<T> asJava() {
+        final java.util.List<T> javaList = new ArrayList<>(size);
+        for (T value : this) {
+            javaList.add(value);
+        }
+        return javaList;
+    }
+
+    @Override
+    public Vector<T> prepend(T value) {
+        return insert(0, value);
+    }
+
+    @Override
+    public Vector<T> prependAll(Iterable<? extends T> values) {
+        final Builder<T> builder = new Builder<>();
+        for (T value : values) {
+            builder.add(value);
+        }
+        for (T value : this) {
+            builder.add(value);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public Vector<T> append(T value) {
+        if (size - tailOffset() < WIDTH) {
+            final Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = value;
+            return new Vector<>(size + 1, shift, root, newTail);
+        }
+        final Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[]{root, newPath(shift, tail)};
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new Vector<>(size + 1, newShift, newRoot, new Object[]{value});
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] leaf) {
+        final int index = ((size - 1) >>> level) & MASK;
+        final Object[] node = Arrays.copyOf(parent, Math.max(parent.length, index + 1));
+        if (level == BITS) {
+            node[index] = leaf;
+        } else if (index < parent.length) {
+            node[index] = pushTail(level - BITS, (Object[]) parent[index], leaf);
+        } else {
+            node[index] = newPath(level - BITS, leaf);
+        }
+        return node;
+    }
+
+    private static Object[] newPath(int level, Object[] leaf) {
+        return level == 0 ? leaf : new Object[]{newPath(level - BITS, leaf)};
+    }
+
+    @Override
+    public Vector<T> appendAll(Iterable<? extends T> values) {
+        Vector<T> result = this;
+        for (T value : values) {
+            result = result.append(value);
+        }
+        return result;
+    }
+
+    @Override
+    public Vector<T> reverse() {
+        final Object[] array = new Object[size];
+        int i = size;
+        for (T value : this) {
+            array[--i] = value;
+        }
+        return ofArray(array, size);
+    }
+
+    @Override
+    public T last() {
+        if (size == 0) {
+            throw new NoSuchElementException("last() of empty vector");
+        }
+        return at(size - 1);
+    }
+
+    @Override
+    public Optional<T> lastOpt() {
+        return size == 0 ? Optional.empty() : Optional.of(at(size - 1));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+            private Object[] leaf = size == 0 ? EMPTY_NODE : leafFor(0);
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (index != 0 && (index & MASK) == 0) {
+                    leaf = leafFor(index);
+                }
+                return (T) leaf[index++ & MASK];
+            }
+        };
+    }
+
+    @Override
+    public boolean contains(Eq<T> equiv, T value) {
+        for (T cur : this) {
+            if (equiv.eq(cur, value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public T get(int n) {
+        if (n < 0) {
+            throw new IndexOutOfBoundsException("get(): n is negative");
+        }
+        if (n >= size) {
+            throw new IndexOutOfBoundsException("get(): n is more than length");
+        }
+        return at(n);
+    }
+
+    @Override
+    public Optional<T> getOpt(int n) {
+        if (n < 0) {
+            throw new IndexOutOfBoundsException("get(): n is negative");
+        }
+        return n < size ? Optional.ofNullable(at(n)) : Optional.empty();
+    }
+
+    @Override
+    public T getOr(int n, T defaultValue) {
+        if (n < 0) {
+            throw new IndexOutOfBoundsException("get(): n is negative");
+        }
+        return n < size ? at(n) : defaultValue;
+    }
+
+    @Override
+    public T getOrGet(int n, Supplier<T> defaultValue) {
+        if (n < 0) {
+            throw new IndexOutOfBoundsException("get(): n is negative");
+        }
+        return n < size ? at(n) : defaultValue.get();
+    }
+
+    @Override
+    public Vector<T> or(Iterable<? extends T> other) {
+        return size != 0 ? this : Vector.ofAll(other);
+    }
+
+    @Override
+    public Vector<T> or(Supplier<? extends Iterable<? extends T>> supplier) {
+        return size != 0 ? this : Vector.ofAll(supplier.get());
+    }
+
+    @Override
+    public Vector<T> insert(int pos, T value) {
+        if (pos < 0 || pos > size) {
+            throw new IndexOutOfBoundsException("insert() with pos = " + pos);
+        }
+        if (pos == size) {
+            return append(value);
+        }
+        final Object[] array = new Object[size + 1];
+        int i = 0;
+        for (T cur : this) {
+            if (i == pos) {
+                array[i++] = value;
+            }
+            array[i++] = cur;
+        }
+        return ofArray(array, array.length);
+    }
+
+    @Override
+    public Vector<T> with(int pos, T value) {
+        if (pos < 0 || pos >= size) {
+            throw new IndexOutOfBoundsException("with() with pos = " + pos);
+        }
+        if (pos >= tailOffset()) {
+            final Object[] newTail = tail.clone();
+            newTail[pos & MASK] = value;
+            return new Vector<>(size, shift, root, newTail);
+        }
+        return new Vector<>(size, shift, with(shift, root, pos, value), tail);
+    }
+
+    private static Object[] with(int level, Object[] node, int pos, Object value) {
+        final Object[] result = node.clone();
+        if (level == 0) {
+            result[pos & MASK] = value;
+        } else {
+            final int index = (pos >>> level) & MASK;
+            result[index] = with(level - BITS, (Object[]) node[index], pos, value);
+        }
+        return result;
+    }
+
+    @Override
+    public <U> Vector<U> map(Function<T, ? extends U> mapper) {
+        final Object[] array = new Object[size];
+        int i = 0;
+        for (T value : this) {
+            array[i++] = mapper.apply(value);
+        }
+        return ofArray(array, size);
+    }
+
+    @Override
+    public <U> Vector<U> mapIndexed(BiFunction<Integer, T, ? extends U> mapper) {
+        final Object[] array = new Object[size];
+        int i = 0;
+        for (T value : this) {
+            array[i] = mapper.apply(i, value);
+            i++;
+        }
+        return ofArray(array, size);
+    }
+
+    @Override
+    public Vector<T> mapIf(Predicate<? super T> condition, Function<? super T, ? extends T> f) {
+        return map(v -> condition.test(v) ? f.apply(v) : v);
+    }
+
+    @Override
+    public <U> Vector<U> mapIf(
+        Predicate<? super T> condition,
+        Function<? super T, ? extends U> thenF,
+        Function<? super T, ? extends U> elseF
+    ) {
+        return map(v -> condition.test(v) ? thenF.apply(v) : elseF.apply(v));
+    }
+
+    @Override
+    public Vector<T> mapIfFirst(Predicate<? super T> condition, Function<? super T, ? extends T> f) {
+        int i = 0;
+        for (T value : this) {
+            if (condition.test(value)) {
+                return with(i, f.apply(value));
+            }
+            i++;
+        }
+        return this;
+    }
+
+    @Override
+    public <U> Vector<U> mapNotNull(Function<T, ? extends U> f) {
+        return mapIndexedNotNull((__, v) -> f.apply(v));
+    }
+
+    @Override
+    public <U> Vector<U> mapIndexedNotNull(BiFunction<Integer, T, ? extends U> f) {
+        final Builder<U> builder = new Builder<>();
+        int i = 0;
+        for (T cur : this) {
+            final U value = f.apply(i++, cur);
+            if (value != null) {
+                builder.add(value);
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public Vector<T> filter(Predicate<? super T> predicate) {
+        return filterIndexed((__, v) -> predicate.test(v));
+    }
+
+    @Override
+    public Vector<T> filterNot(Predicate<? super T> predicate) {
+        return filter(predicate.negate());
+    }
+
+    @Override
+    public Vector<T> filterNonNull() {
+        return filter(Objects::nonNull);
+    }
+
+    @Override
+    public Vector<T> filterIndexed(BiPredicate<Integer, T> predicate) {
+        final Builder<T> builder = new Builder<>();
+        int i = 0;
+        for (T value : this) {
+            if (predicate.test(i++, value)) {
+                builder.add(value);
+            }
+        }
+        return builder.size == size ? this : builder.build();
+    }
+
+    @Override
+    public Vector<T> distinct() {
+        return distinct(Hash.objectHash());
+    }
+
+    @Override
+    public Vector<T> distinct(Hash<T> hash) {
+        HashSet<T> seen = HashSet.empty(hash);
+        final Builder<T> builder = new Builder<>();
+        for (T value : this) {
+            final HashSet<T> next = seen.add(value);
+            if (next != seen) {
+                builder.add(value);
+                seen = next;
+            }
+        }
+        return builder.size == size ? this : builder.build();
+    }
+
+    @Override
+    public Vector<T> intersect(Iterable<? extends T> other) {
+        return intersect(Hash.objectHash(), other);
+    }
+
+    @Override
+    public Vector<T> intersect(Hash<T> hash, Iterable<? extends T> other) {
+        final HashSet<T> set = HashSet.ofAll(hash, other);
+        return filter(set::contains);
+    }
+
+    @Override
+    public Vector<T> diff(Iterable<? extends T> other) {
+        return diff(Hash.objectHash(), other);
+    }
+
+    @Override
+    public Vector<T> diff(Hash<T> hash, Iterable<? extends T> other) {
+        final HashSet<T> set = HashSet.ofAll(hash, other);
+        return filterNot(set::contains);
+    }
+
+    @Override
+    public boolean all(Predicate<T> predicate) {
+        for (T value : this) {
+            if (!predicate.test(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean any(Predicate<T> predicate) {
+        for (T value : this) {
+            if (predicate.test(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int count(Predicate<T> predicate) {
+        int count = 0;
+        for (T value : this) {
+            if (predicate.test(value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public <U> U match(Supplier<? extends U> ifNil, BiFunction<T, Seq<T>, ? extends U> ifCons) {
+        return size == 0 ? ifNil.get() : ifCons.apply(head(), tail());
+    }
+
+    @Override
+    public <U> U match(
+        Supplier<? extends U> ifNil,
+        Function<T, ? extends U> ifSingle,
+        Function<T, Function<T, Function<Seq<T>, ? extends U>>> ifMultiple
+    ) {
+        if (size == 0) {
+            return ifNil.get();
+        } else if (size == 1) {
+            return ifSingle.apply(at(0));
+        } else {
+            return ifMultiple.apply(at(0)).apply(at(1)).apply(slice(2, size));
+        }
+    }
+
+    private Vector<T> slice(int from, int to) {
+        if (from >= to) {
+            return empty();
+        }
+        if (from == 0 && to == size) {
+            return this;
+        }
+        return ofArray(Arrays.copyOfRange(toArray(), from, to), to - from);
+    }
+
+    @Override
+    public Vector<T> take(int n) {
+        return slice(0, Math.min(Math.max(n, 0), size));
+    }
+
+    @Override
+    public Vector<T> takeWhile(Predicate<T> cond) {
+        int n = 0;
+        for (T value : this) {
+            if (!cond.test(value)) {
+                break;
+            }
+            n++;
+        }
+        return slice(0, n);
+    }
+
+    @Override
+    public Vector<T> takeRight(int n) {
+        return slice(size - Math.min(Math.max(n, 0), size), size);
+    }
+
+    @Override
+    public Vector<T> takeRightWhile(Predicate<T> cond) {
+        int from = size;
+        while (from > 0 && cond.test(at(from - 1))) {
+            from--;
+        }
+        return slice(from, size);
+    }
+
+    @Override
+    public <U> Vector<Tuple2<T, U>> zip(Iterable<? extends U> that) {
+        final Builder<Tuple2<T, U>> builder = new Builder<>();
+        final Iterator<? extends U> iterator = that.iterator();
+        for (Iterator<T> cur = iterator(); cur.hasNext() && iterator.hasNext(); ) {
+            builder.add(new Tuple2<>(cur.next(), iterator.next()));
+        }
+        return builder.build();
+    }
+
+    @Override
+    public Vector<Tuple2<T, Integer>> zipWithIndex() {
+        return mapIndexed((i, v) -> new Tuple2<>(v, i));
+    }
+
+    @Override
+    public <U> U foldLeft(U zero, BiFunction<? super U, ? super T, ? extends U> func) {
+        U result = zero;
+        for (T value : this) {
+            result = func.apply(result, value);
+        }
+        return result;
+    }
+
+    @Override
+    public <U> U foldRight(U zero, BiFunction<? super T, ? super U, ? extends U> func) {
+        U result = zero;
+        for (int i = size - 1; i >= 0; i--) {
+            result = func.apply(at(i), result);
+        }
+        return result;
+    }
+
+    @Override
+    public <U> Vector<U> scanLeft(U zero, BiFunction<? super U, ? super T, ? extends U> func) {
+        final Object[] array = new Object[size + 1];
+        U acc = zero;
+        array[0] = acc;
+        int i = 1;
+        for (T value : this) {
+            acc = func.apply(acc, value);
+            array[i++] = acc;
+        }
+        return ofArray(array, array.length);
+    }
+
+    @Override
+    public <U> Vector<U> scanRight(U zero, BiFunction<? super T, ? super U, ? extends U> func) {
+        final Object[] array = new Object[size + 1];
+        U acc = zero;
+        array[size] = acc;
+        for (int i = size - 1; i >= 0; i--) {
+            acc = func.apply(at(i), acc);
+            array[i] = acc;
+        }
+        return ofArray(array, array.length);
+    }
+
+    @Override
+    public Vector<T> parallelScan(Monoid<T> monoid) {
+        return parallelScan(monoid, ForkJoinPool.commonPool());
+    }
+
+    @Override
+    public Vector<T> parallelScan(Monoid<T> monoid, Executor executor) {
+        final Object[] array = ParallelFolds.scan(this, monoid, executor);
+        return ofArray(array, array.length);
+    }
+
+    @Override
+    public T reduceLeft(BiFunction<? super T, ? super T, ? extends T> func) {
+        if (size == 0) {
+            throw new NoSuchElementException("reduceLeft of empty vector");
+        }
+        final Iterator<T> iterator = iterator();
+        T result = iterator.next();
+        while (iterator.hasNext()) {
+            result = func.apply(result, iterator.next());
+        }
+        return result;
+    }
+
+    @Override
+    public T reduceRight(BiFunction<? super T, ? super T, ? extends T> func) {
+        if (size == 0) {
+            throw new NoSuchElementException("reduceRight of empty vector");
+        }
+        T result = at(size - 1);
+        for (int i = size - 2; i >= 0; i--) {
+            result = func.apply(at(i), result);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+        Vector<?> vector = (Vector<?>) that;
+        if (size != vector.size) return false;
+        Iterator<?> other = vector.iterator();
+        for (T value : this) {
+            if (!Objects.equals(value, other.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (T value : this) {
+            hashCode = 31 * hashCode + Objects.hashCode(value);
+        }
+        return hashCode;
+    }
+
+    private static final class Builder<T> {
+
+        private Object[] array = new Object[WIDTH];
+        private int size;
+
+        void add(T value) {
+            if (size == array.length) {
+                array = Arrays.copyOf(array, size << 1);
+            }
+            array[size++] = value;
+        }
+
+        Vector<T> build() {
+            return ofArray(array, size);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.vssekorin.sosna;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+public final class WindowAggregator<T> {
+
+    private final int window;
+    private final Semigroup<T> semigroup;
+    private final Object[] back;
+    private final Object[] front;
+    private int backSize;
+    private int frontSize;
+    private T backAggregate;
+
+    public WindowAggregator(int window, Semigroup<T> semigroup) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("window must be positive: " + window);
+        }
+        this.window = window;
+        this.semigroup = semigroup;
+        this.back = new Object[window];
+        this.front = new Object[window];
+    }
+
+    public int window() {
+        return window;
+    }
+
+    public int size() {
+        return backSize + frontSize;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean isFull() {
+        return size() == window;
+    }
+
+    public WindowAggregator<T> push(T value) {
+        if (isFull()) {
+            evict();
+        }
+        back[backSize++] = value;
+        backAggregate = backSize == 1 ? value : semigroup.combine(backAggregate, value);
+        return this;
+    }
+
+    public WindowAggregator<T> evict() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("evict() of empty window");
+        }
+        if (frontSize == 0) {
+            flip();
+        }
+        front[--frontSize] = null;
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void flip() {
+        T aggregate = (T) back[backSize - 1];
+        front[0] = aggregate;
+        for (int i = backSize - 2; i >= 0; i--) {
+            aggregate = semigroup.combine((T) back[i], aggregate);
+            front[backSize - 1 - i] = aggregate;
+        }
+        frontSize = backSize;
+        Arrays.fill(back, 0, backSize, null);
+        backSize = 0;
+        backAggregate = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get() {
+        if (frontSize == 0) {
+            if (backSize == 0) {
+                throw new NoSuchElementException("get() of empty window");
+            }
+            return backAggregate;
+        }
+        final T frontAggregate = (T) front[frontSize - 1];
+        return backSize == 0 ? frontAggregate : semigroup.combine(frontAggregate, backAggregate);
+    }
+
+    public Optional<T> getOpt() {
+        return isEmpty() ? Optional.empty() : Optional.ofNullable(get());
+    }
+
+    public T getOr(Monoid<T> monoid) {
+        return isEmpty() ? monoid.empty() : get();
+    }
+
+    static <T> Stream<T> slide(Iterable<T> values, int window, Semigroup<T> semigroup) {
+        final Iterator<T> iterator = values.iterator();
+        final WindowAggregator<T> aggregator = new WindowAggregator<>(window, semigroup);
+        while (!aggregator.isFull() && iterator.hasNext()) {
+            aggregator.push(iterator.next());
+        }
+        return aggregator.isEmpty() ? Stream.empty() : Stream.cons(aggregator.get(), () -> slide(iterator, aggregator));
+    }
+
+    private static <T> Stream<T> slide(Iterator<T> iterator, WindowAggregator<T> aggregator) {
+        if (!iterator.hasNext()) {
+            return Stream.empty();
+        }
+        aggregator.push(iterator.next());
+        return Stream.cons(aggregator.get(), () -> slide(iterator, aggregator));
+    }
+}
@@ -0,0 +1,141 @@
+package com.vssekorin.sosna;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpiringLazyTest {
+
+    @Test
+    void testTtl() {
+        ManualClock clock = new ManualClock();
+        AtomicInteger loads = new AtomicInteger();
+        ExpiringLazy<Integer> lazy = ExpiringLazy.of(loads::incrementAndGet).ttl(Duration.ofSeconds(10)).clock(clock);
+        assertEquals(0, loads.get());
+        assertEquals(1, lazy.get());
+        clock.advance(Duration.ofSeconds(9));
+        assertEquals(1, lazy.get());
+        assertTrue(lazy.isEvaluated());
+        clock.advance(Duration.ofSeconds(1));
+        assertFalse(lazy.isEvaluated());
+        assertEquals(2, lazy.get());
+        assertEquals(2, lazy.get());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testRefreshAfterServesStaleValueWhileRefreshing() {
+        ManualClock clock = new ManualClock();
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        AtomicInteger loads = new AtomicInteger();
+        ExpiringLazy<Integer> lazy = ExpiringLazy.of(loads::incrementAndGet)
+            .ttl(Duration.ofMinutes(10))
+            .refreshAfter(Duration.ofMinutes(1))
+            .clock(clock)
+            .executor(tasks::add);
+        assertEquals(1, lazy.get());
+        clock.advance(Duration.ofMinutes(2));
+        assertEquals(1, lazy.get());
+        assertEquals(1, lazy.get());
+        assertEquals(1, tasks.size());
+        tasks.poll().run();
+        assertEquals(2, lazy.get());
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    void testFailedRefreshKeepsValueAndRetries() {
+        ManualClock clock = new ManualClock();
+        AtomicInteger calls = new AtomicInteger();
+        ExpiringLazy<String> lazy = ExpiringLazy.of(() -> {
+                if (calls.incrementAndGet() == 2) {
+                    throw new IllegalStateException("remote is down");
+                }
+                return "v" + calls.get();
+            })
+            .refreshAfter(Duration.ofSeconds(5))
+            .clock(clock)
+            .executor(Runnable::run);
+        assertEquals("v1", lazy.get());
+        clock.advance(Duration.ofSeconds(5));
+        assertEquals("v1", lazy.get());
+        assertEquals("v1", lazy.get());
+        assertEquals("v3", lazy.get());
+    }
+
+    @Test
+    void testRefreshFailingWithErrorRetries() {
+        ManualClock clock = new ManualClock();
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        AtomicInteger calls = new AtomicInteger();
+        ExpiringLazy<String> lazy = ExpiringLazy.of(() -> {
+                if (calls.incrementAndGet() == 2) {
+                    throw new Error("refresh failed");
+                }
+                return "v" + calls.get();
+            })
+            .refreshAfter(Duration.ofSeconds(5))
+            .clock(clock)
+            .executor(tasks::add);
+        assertEquals("v1", lazy.get());
+        clock.advance(Duration.ofSeconds(5));
+        assertEquals("v1", lazy.get());
+        assertThrows(Error.class, () -> tasks.poll().run());
+        assertEquals("v1", lazy.get());
+        assertEquals(1, tasks.size());
+        tasks.poll().run();
+        assertEquals("v3", lazy.get());
+    }
+
+    @Test
+    void testInvalidate() {
+        AtomicInteger loads = new AtomicInteger();
+        ExpiringLazy<Integer> lazy = ExpiringLazy.of(loads::incrementAndGet);
+        assertEquals(1, lazy.get());
+        assertEquals(1, lazy.get());
+        lazy.invalidate();
+        assertFalse(lazy.isEvaluated());
+        assertEquals(2, lazy.get());
+    }
+
+    @Test
+    void testRejectsNonPositiveDurations() {
+        ExpiringLazy<Integer> lazy = ExpiringLazy.of(() -> 1);
+        assertThrows(IllegalArgumentException.class, () -> lazy.ttl(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> lazy.refreshAfter(Duration.ofSeconds(-1)));
+        assertThrows(NullPointerException.class, () -> ExpiringLazy.of(null));
+    }
+
+    private static final class ManualClock extends Clock {
+
+        private Instant now = Instant.EPOCH;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
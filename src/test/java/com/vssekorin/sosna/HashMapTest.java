@@ -0,0 +1,163 @@
+package com.vssekorin.sosna;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashMapTest {
+
+    private static final class Collider {
+        private final int id;
+
+        private Collider(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object that) {
+            return that instanceof Collider && ((Collider) that).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    @Test
+    void testEmpty() {
+        HashMap<String, Integer> map = HashMap.empty();
+        assertTrue(map.isEmpty());
+        assertEquals(Optional.empty(), map.get("a"));
+        assertFalse(map.iterator().hasNext());
+    }
+
+    @Test
+    void testPutGet() {
+        HashMap<String, Integer> map = HashMap.<String, Integer>empty().put("a", 1).put("b", 2);
+        assertEquals(2, map.size());
+        assertEquals(Optional.of(1), map.get("a"));
+        assertEquals(2, map.getOrNull("b"));
+        assertEquals(6, map.getOr("c", 6));
+        assertTrue(map.containsKey("a"));
+        assertFalse(map.containsKey("c"));
+    }
+
+    @Test
+    void testIsPersistent() {
+        HashMap<String, Integer> map = HashMap.of("a", 1);
+        HashMap<String, Integer> updated = map.put("a", 2).put("b", 3);
+        assertEquals(1, map.getOrNull("a"));
+        assertEquals(1, map.size());
+        assertEquals(2, updated.getOrNull("a"));
+        assertEquals(2, updated.size());
+        assertSame(map, map.put("a", 1));
+        assertSame(map, map.remove("z"));
+    }
+
+    @Test
+    void testAgainstJavaHashMap() {
+        Random random = new Random(6);
+        java.util.HashMap<Integer, Integer> expected = new java.util.HashMap<>();
+        HashMap<Integer, Integer> actual = HashMap.empty();
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(20_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                actual = actual.remove(key);
+            } else {
+                expected.put(key, i);
+                actual = actual.put(key, i);
+            }
+        }
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected, actual.asJava());
+        assertEquals(HashMap.ofAll(expected), actual);
+        assertEquals(HashMap.ofAll(expected).hashCode(), actual.hashCode());
+        int count = 0;
+        for (Tuple2<Integer, Integer> entry : actual) {
+            assertEquals(expected.get(entry._1()), entry._2());
+            count++;
+        }
+        assertEquals(expected.size(), count);
+    }
+
+    @Test
+    void testCollisions() {
+        HashMap<Collider, Integer> map = HashMap.empty();
+        for (int i = 0; i < 10; i++) {
+            map = map.put(new Collider(i), i);
+        }
+        map = map.put(new Collider(100), 100).put(new Collider(3), 33);
+        assertEquals(11, map.size());
+        assertEquals(33, map.getOrNull(new Collider(3)));
+        for (int i = 0; i < 10; i++) {
+            map = map.remove(new Collider(i));
+        }
+        assertEquals(1, map.size());
+        assertEquals(100, map.getOrNull(new Collider(100)));
+        assertTrue(map.remove(new Collider(100)).isEmpty());
+    }
+
+    @Test
+    void testFoldAndViews() {
+        HashMap<String, Integer> map = HashMap.ofEntries(Tuple.of("a", 1), Tuple.of("b", 2), Tuple.of("c", 3));
+        assertEquals(6, map.foldLeft(0, (acc, e) -> acc + e._2()));
+        assertEquals(6, map.values().fold(Monoid.Int.sum));
+        assertEquals(3, map.keys().size());
+        assertEquals(HashMap.ofEntries(Tuple.of("a", 10), Tuple.of("b", 20), Tuple.of("c", 30)), map.mapValues(v -> v * 10));
+    }
+
+    @Test
+    void testCustomKeyHash() {
+        HashMap<String, Integer> map = HashMap.<String, Integer>empty(Hash.ignoreCase).put("Key", 1).put("KEY", 2);
+        assertEquals(1, map.size());
+        assertEquals(2, map.getOrNull("key"));
+        assertSame(Hash.ignoreCase, map.remove("kEy").keyHash());
+        assertSame(Hash.ignoreCase, map.mapValues(v -> v + 1).keyHash());
+        assertNotEquals(HashMap.of("Key", 2), map);
+    }
+
+    @Test
+    void testCustomKeyHashWithCollisions() {
+        Hash<Integer> modulo = Hash.of((x, y) -> x % 100 == y % 100, x -> (x % 100) % 4);
+        HashMap<Integer, Integer> map = HashMap.empty(modulo);
+        for (int i = 0; i < 300; i++) {
+            map = map.put(i, i);
+        }
+        assertEquals(100, map.size());
+        assertEquals(257, map.getOrNull(57));
+        assertEquals(99, map.remove(7).size());
+    }
+
+    @Test
+    void testSerializationRoundTrip() throws Exception {
+        HashMap<String, Integer> map = HashMap.<String, Integer>empty().put("a", 1).put("b", 2);
+        HashMap<String, Integer> copy = roundTrip(map);
+        assertEquals(map, copy);
+        assertSame(Hash.objectHash(), copy.keyHash());
+        HashMap<String, Integer> ignoringCase = HashMap.<String, Integer>empty(Hash.ignoreCase).put("Key", 1);
+        HashMap<String, Integer> ignoringCaseCopy = roundTrip(ignoringCase);
+        assertSame(Hash.ignoreCase, ignoringCaseCopy.keyHash());
+        assertEquals(Optional.of(1), ignoringCaseCopy.get("KEY"));
+        assertTrue(roundTrip(HashMap.empty()).isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T roundTrip(T value) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (T) in.readObject();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.vssekorin.sosna;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashSetTest {
+
+    @Test
+    void testEmpty() {
+        HashSet<String> set = HashSet.empty();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains("a"));
+        assertFalse(set.iterator().hasNext());
+    }
+
+    @Test
+    void testAddContains() {
+        HashSet<String> set = HashSet.of("a", "b", "a");
+        assertEquals(2, set.size());
+        assertTrue(set.contains("a"));
+        assertTrue(set.contains("b"));
+        assertFalse(set.contains("c"));
+    }
+
+    @Test
+    void testIsPersistent() {
+        HashSet<Integer> set = HashSet.of(1, 2);
+        HashSet<Integer> updated = set.add(3).remove(1);
+        assertEquals(HashSet.of(1, 2), set);
+        assertEquals(HashSet.of(2, 3), updated);
+        assertSame(set, set.add(1));
+        assertSame(set, set.remove(5));
+    }
+
+    @Test
+    void testSetOperations() {
+        HashSet<Integer> left = HashSet.of(1, 2, 3, 4);
+        HashSet<Integer> right = HashSet.of(3, 4, 5);
+        assertEquals(HashSet.of(1, 2, 3, 4, 5), left.union(right));
+        assertEquals(HashSet.of(3, 4), left.intersect(right));
+        assertEquals(HashSet.of(1, 2), left.diff(right));
+        assertTrue(left.containsAll(List.of(1, 4)));
+        assertFalse(left.containsAll(List.of(1, 5)));
+        assertTrue(left.containsAny(List.of(9, 4)));
+        assertFalse(left.containsAny(List.of(9, 5)));
+    }
+
+    @Test
+    void testFolds() {
+        HashSet<Integer> set = HashSet.of(1, 2, 3);
+        assertEquals(6, set.fold(Monoid.Int.sum));
+        assertEquals(3, set.toList().size());
+        assertEquals(3, set.asJava().size());
+    }
+
+    @Test
+    void testEqualsAndHashCodeIgnoreInsertionOrder() {
+        HashSet<Integer> left = HashSet.of(1, 2, 3);
+        HashSet<Integer> right = HashSet.of(3, 1, 2);
+        assertEquals(left, right);
+        assertEquals(left.hashCode(), right.hashCode());
+        assertNotEquals(left, HashSet.of(1, 2));
+    }
+
+    @Test
+    void testAgainstJavaSet() {
+        Random random = new Random(7);
+        java.util.Set<Integer> expected = new java.util.HashSet<>();
+        HashSet<Integer> set = HashSet.empty();
+        for (int i = 0; i < 5_000; i++) {
+            int value = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(value);
+                set = set.remove(value);
+            } else {
+                expected.add(value);
+                set = set.add(value);
+            }
+        }
+        assertEquals(expected.size(), set.size());
+        assertEquals(expected, set.asJava());
+    }
+
+    @Test
+    void testCustomHash() {
+        HashSet<String> set = HashSet.ofAll(Hash.ignoreCase, List.of("a", "A", "b"));
+        assertEquals(2, set.size());
+        assertTrue(set.contains("B"));
+        assertSame(Hash.ignoreCase, set.remove("a").remove("b").hash());
+        assertNotEquals(HashSet.of("a", "b"), set);
+    }
+
+    @Test
+    void testSerializationRoundTrip() throws Exception {
+        HashSet<String> set = HashSet.<String>empty().add("a").add("b");
+        HashSet<String> copy = roundTrip(set);
+        assertEquals(set, copy);
+        assertSame(Hash.objectHash(), copy.hash());
+        HashSet<Object> byRef = roundTrip(HashSet.empty(Hash.refHash()).add("x"));
+        assertSame(Hash.refHash(), byRef.hash());
+        assertEquals(1, byRef.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T roundTrip(T value) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (T) in.readObject();
+        }
+    }
+}
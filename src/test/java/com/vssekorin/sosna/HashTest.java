@@ -0,0 +1,43 @@
+package com.vssekorin.sosna;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashTest {
+
+    @Test
+    void testObjectHash() {
+        Hash<String> hash = Hash.objectHash();
+        assertTrue(hash.eq("a", new String("a")));
+        assertEquals("a".hashCode(), hash.hash("a"));
+        assertEquals(0, hash.hash(null));
+    }
+
+    @Test
+    void testRefHash() {
+        Hash<String> hash = Hash.refHash();
+        String value = "a";
+        assertTrue(hash.eq(value, value));
+        assertFalse(hash.eq(value, new String(value)));
+        assertEquals(System.identityHashCode(value), hash.hash(value));
+    }
+
+    @Test
+    void testIgnoreCaseIsConsistentWithEq() {
+        assertTrue(Hash.ignoreCase.eq("Hello", "hELLO"));
+        assertEquals(Hash.ignoreCase.hash("Hello"), Hash.ignoreCase.hash("hELLO"));
+        assertFalse(Hash.ignoreCase.eq("Hello", "World"));
+        assertTrue(Hash.ignoreCase.eq(null, null));
+        assertFalse(Hash.ignoreCase.eq(null, "a"));
+    }
+
+    @Test
+    void testBy() {
+        Hash<Tuple2<String, Integer>> byName = Hash.by(Tuple2::_1);
+        assertTrue(byName.eq(Tuple.of("a", 1), Tuple.of("a", 2)));
+        assertEquals(byName.hash(Tuple.of("a", 1)), byName.hash(Tuple.of("a", 2)));
+        Hash<Tuple2<String, Integer>> byNameIgnoreCase = Hash.by(Tuple2::_1, Hash.ignoreCase);
+        assertTrue(byNameIgnoreCase.eq(Tuple.of("a", 1), Tuple.of("A", 2)));
+    }
+}
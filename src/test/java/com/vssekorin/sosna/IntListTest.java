@@ -0,0 +1,72 @@
+package com.vssekorin.sosna;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntListTest {
+
+    @Test
+    void testOf() {
+        IntList list = IntList.of(1, 2, 3);
+        assertEquals(3, list.size());
+        assertEquals(1, list.head());
+        assertEquals(3, list.last());
+        assertEquals(2, list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+    }
+
+    @Test
+    void testEmpty() {
+        assertTrue(IntList.empty().isEmpty());
+        assertEquals(IntList.empty(), IntList.of());
+        assertThrowsExactly(NoSuchElementException.class, () -> IntList.empty().head());
+    }
+
+    @Test
+    void testIsPersistent() {
+        IntList list = IntList.of(1, 2, 3);
+        assertEquals(IntList.of(0, 1, 2, 3), list.prepend(0));
+        assertEquals(IntList.of(1, 2, 3, 4), list.append(4));
+        assertEquals(IntList.of(1, 6, 3), list.with(1, 6));
+        assertEquals(IntList.of(1, 2, 3), list);
+    }
+
+    @Test
+    void testTransformations() {
+        IntList list = IntList.of(1, 2, 3, 4, 5);
+        assertEquals(IntList.of(2, 4, 6, 8, 10), list.map(v -> v * 2));
+        assertEquals(IntList.of(2, 4), list.filter(v -> v % 2 == 0));
+        assertEquals(IntList.of(5, 4, 3, 2, 1), list.reverse());
+        assertEquals(IntList.of(1, 2), list.take(2));
+        assertEquals(IntList.of(4, 5), list.takeRight(2));
+        assertEquals(List.of(1, 2, 3, 4, 5), list.boxed());
+    }
+
+    @Test
+    void testFoldAndReduce() {
+        IntList list = IntList.of(3, 1, 4, 1, 5);
+        assertEquals(14, list.fold(IntMonoid.sum));
+        assertEquals(60, list.fold(IntMonoid.prod));
+        assertEquals(1, list.fold(IntMonoid.min));
+        assertEquals(5, list.reduce(IntSemigroup.max));
+        assertEquals(14, list.sum());
+        assertEquals(Integer.MIN_VALUE, IntList.empty().fold(IntMonoid.max));
+        assertThrows(NoSuchElementException.class, () -> IntList.empty().reduce(IntSemigroup.sum));
+    }
+
+    @Test
+    void testMapToInt() {
+        IntList lengths = List.of("a", "bb", "ccc").mapToInt(String::length);
+        assertEquals(IntList.of(1, 2, 3), lengths);
+        assertEquals(6, lengths.fold(IntMonoid.sum));
+    }
+
+    @Test
+    void testMapToLongAndDouble() {
+        assertEquals(6L, Vector.of(1, 2, 3).mapToLong(Integer::longValue).fold(LongMonoid.sum));
+        assertEquals(1.5, List.of(1, 2).mapToDouble(v -> v / 2.0).fold(DoubleMonoid.sum));
+    }
+}
@@ -2,6 +2,11 @@ package com.vssekorin.sosna;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class LazyTest {
@@ -25,4 +30,140 @@ class LazyTest {
         Lazy<Integer> six = Lazy.of(() -> 6);
         assertEquals("6", six.map(Object::toString).get());
     }
+
+    @Test
+    void testConcurrentGetEvaluatesOnce() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Lazy<Integer> lazy = Lazy.of(() -> {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return 42;
+        });
+        java.util.List<Thread> threads = new ArrayList<>();
+        AtomicInteger sum = new AtomicInteger();
+        for (int i = 0; i < 32; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    return;
+                }
+                sum.addAndGet(lazy.get());
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1, calls.get());
+        assertEquals(32 * 42, sum.get());
+        assertTrue(lazy.isEvaluated());
+    }
+
+    @Test
+    void testFailedEvaluationIsRetried() {
+        AtomicInteger calls = new AtomicInteger();
+        Lazy<String> lazy = Lazy.of(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalArgumentException("first");
+            }
+            return "second";
+        });
+        assertThrows(IllegalArgumentException.class, lazy::get);
+        assertFalse(lazy.isEvaluated());
+        assertEquals("second", lazy.get());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testSelfDependencyFails() {
+        AtomicReference<Lazy<Integer>> self = new AtomicReference<>();
+        self.set(Lazy.of(() -> self.get().get() + 1));
+        assertThrows(IllegalStateException.class, () -> self.get().get());
+    }
+
+    @Test
+    void testSerializationForcesValue() throws Exception {
+        Lazy<String> lazy = Lazy.of(() -> "value");
+        java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+        try (java.io.ObjectOutputStream out = new java.io.ObjectOutputStream(bytes)) {
+            out.writeObject(lazy);
+        }
+        try (java.io.ObjectInputStream in = new java.io.ObjectInputStream(new java.io.ByteArrayInputStream(bytes.toByteArray()))) {
+            Lazy<?> copy = (Lazy<?>) in.readObject();
+            assertTrue(copy.isEvaluated());
+            assertEquals("value", copy.get());
+        }
+    }
+
+    @Test
+    void testLongMapChainIsStackSafe() {
+        Lazy<Integer> root = Lazy.of(() -> 0);
+        Lazy<Integer> middle = root;
+        Lazy<Integer> lazy = root;
+        for (int i = 0; i < 200_000; i++) {
+            lazy = lazy.map(x -> x + 1);
+            if (i == 99_999) {
+                middle = lazy;
+            }
+        }
+        assertFalse(middle.isEvaluated());
+        assertEquals(200_000, lazy.get());
+        assertTrue(root.isEvaluated());
+        assertTrue(middle.isEvaluated());
+        assertEquals(100_000, middle.get());
+    }
+
+    @Test
+    void testLongFlatMapChainsAreStackSafe() {
+        Lazy<Integer> left = Lazy.val(0);
+        for (int i = 0; i < 200_000; i++) {
+            left = left.flatMap(x -> Lazy.of(() -> x + 1));
+        }
+        assertEquals(200_000, left.get());
+        assertEquals(200_000, countDown(200_000).get());
+    }
+
+    private static Lazy<Integer> countDown(int n) {
+        return n == 0 ? Lazy.val(0) : Lazy.val(n).flatMap(x -> countDown(x - 1).map(y -> y + 1));
+    }
+
+    @Test
+    void testZipIsStackSafe() {
+        Lazy<Integer> sum = Lazy.val(0);
+        for (int i = 1; i <= 100_000; i++) {
+            final int value = i;
+            sum = sum.zipWith(Lazy.of(() -> value), Integer::sum);
+        }
+        assertEquals((int) 5_000_050_000L, sum.get());
+        assertEquals(Tuple.of(1, "a"), Lazy.val(1).zip(Lazy.of(() -> "a")).get());
+    }
+
+    @Test
+    void testChainRunsEachStepOnceAndRetriesAfterFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger(1);
+        Lazy<Integer> base = Lazy.of(() -> 1);
+        Lazy<Integer> counted = base.map(x -> {
+            calls.incrementAndGet();
+            return x * 10;
+        });
+        Lazy<Integer> failing = counted.map(x -> {
+            if (failures.getAndDecrement() > 0) {
+                throw new IllegalStateException("boom");
+            }
+            return x + 1;
+        });
+        assertThrows(IllegalStateException.class, failing::get);
+        assertEquals(11, failing.get());
+        assertEquals(10, counted.get());
+        assertEquals(1, calls.get());
+    }
 }
@@ -2,12 +2,17 @@ package com.vssekorin.sosna;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.vssekorin.sosna.List.nil;
 import static com.vssekorin.sosna.Monoid.Int.sum;
@@ -59,6 +64,29 @@ class ListTest {
         assertEquals(2, new Cons<>(1, new Cons<>(2, nil())).size());
     }
 
+    @Test
+    void testSizeAfterTransformations() {
+        List<Integer> list = List.of(1, 2, 3, 4, 5);
+        assertEquals(6, list.prepend(0).size());
+        assertEquals(6, list.append(6).size());
+        assertEquals(6, list.insert(2, 10).size());
+        assertEquals(5, list.with(2, 10).size());
+        assertEquals(2, list.filter(v -> v % 2 == 0).size());
+        assertEquals(3, list.takeRight(3).size());
+    }
+
+    @Test
+    void testInsertThrowsIfPosIsMoreThanSize() {
+        List<Integer> list = List.of(1, 2, 3);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insert(4, 6));
+    }
+
+    @Test
+    void testWithThrowsIfPosIsSize() {
+        List<Integer> list = List.of(1, 2, 3);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(3, 6));
+    }
+
     @Test
     void testHead() {
         assertEquals(1, new Cons<>(1, nil()).head());
@@ -133,6 +161,153 @@ class ListTest {
         assertFalse(list.containsAny(List.empty()));
     }
 
+    @Test
+    void testContainsAllAndAnyWithLargeArgument() {
+        List<Integer> list = List.ofAll(Stream.iterate(0, i -> i + 1).take(100));
+        List<Integer> evens = List.ofAll(Stream.iterate(0, i -> i + 2).take(50));
+        List<Integer> outside = List.ofAll(Stream.iterate(100, i -> i + 1).take(50));
+        assertTrue(list.containsAll(evens));
+        assertFalse(list.containsAll(evens.append(100)));
+        assertTrue(list.containsAny(outside.append(99)));
+        assertFalse(list.containsAny(outside));
+    }
+
+    @Test
+    void testDistinct() {
+        assertEquals(List.of(1, 2, 3, 4), List.of(1, 2, 1, 3, 2, 4).distinct());
+        assertEquals(List.empty(), List.<Integer>empty().distinct());
+    }
+
+    @Test
+    void testDistinctSharesTailAfterLastDuplicate() {
+        List<Integer> tail = List.of(3, 4, 5);
+        List<Integer> list = tail.prependAll(List.of(1, 2, 1));
+        assertSame(tail, list.distinct().tail().tail());
+        List<Integer> unique = List.of(1, 2, 3);
+        assertSame(unique, unique.distinct());
+    }
+
+    @Test
+    void testHashedOperationsWithCustomHash() {
+        List<String> words = List.of("Apple", "apple", "Banana", "APPLE", "cherry");
+        assertEquals(List.of("Apple", "Banana", "cherry"), words.distinct(Hash.ignoreCase));
+        assertTrue(words.containsAll(Hash.ignoreCase, List.of("BANANA", "Cherry")));
+        assertFalse(words.containsAll(List.of("BANANA", "Cherry")));
+        assertTrue(words.containsAny(Hash.ignoreCase, List.of("kiwi", "CHERRY")));
+    }
+
+    @Test
+    void testIntersectAndDiff() {
+        List<Integer> list = List.of(1, 2, 3, 4, 2);
+        assertEquals(List.of(2, 4, 2), list.intersect(List.of(4, 2, 6)));
+        assertEquals(List.of(1, 3), list.diff(List.of(4, 2, 6)));
+        List<String> words = List.of("a", "B", "c");
+        assertEquals(List.of("a", "B"), words.intersect(Hash.ignoreCase, List.of("b", "A")));
+        assertEquals(List.of("c"), words.diff(Hash.ignoreCase, List.of("b", "A")));
+    }
+
+    @Test
+    void testGroupBy() {
+        List<String> words = List.of("one", "two", "three", "four", "five");
+        HashMap<Integer, List<String>> byLength = words.groupBy(String::length);
+        assertEquals(3, byLength.size());
+        assertEquals(List.of("one", "two"), byLength.getOrNull(3));
+        assertEquals(List.of("four", "five"), byLength.getOrNull(4));
+        HashMap<String, List<String>> byFirst = List.of("Ab", "ac", "B").groupBy(Hash.ignoreCase, w -> w.substring(0, 1));
+        assertEquals(List.of("Ab", "ac"), byFirst.getOrNull("A"));
+    }
+
+    @Test
+    void testHashCodeIsCachedAndConsistent() {
+        List<Integer> list = List.of(1, 2, 3);
+        List<Integer> copy = List.ofAll(java.util.List.of(1, 2, 3));
+        assertEquals(list.hashCode(), list.hashCode());
+        assertEquals(list.hashCode(), copy.hashCode());
+        assertEquals(List.of(5).hashCode(), List.nil().prepend(5).hashCode());
+        assertEquals(List.of(1, null).hashCode(), List.of(1, null).hashCode());
+    }
+
+    @Test
+    void testHashCodeDependsOnEarlyElementsOfLongLists() {
+        List<Integer> suffix = List.ofAll(Stream.iterate(0, i -> i + 1).take(1000));
+        assertNotEquals(suffix.prepend(1).hashCode(), suffix.prepend(2).hashCode());
+    }
+
+    @Test
+    void testHashCodeOfDeepList() {
+        List<Integer> list = List.ofAll(Stream.iterate(0, i -> i + 1).take(200_000));
+        assertEquals(List.ofAll(list.asJava()).hashCode(), list.hashCode());
+    }
+
+    @Test
+    void testEqualsWithSharedTail() {
+        List<Integer> shared = List.of(3, 4, 5);
+        assertEquals(shared.prepend(2).prepend(1), shared.prependAll(List.of(1, 2)));
+        assertNotEquals(shared.prepend(2).prepend(1), shared.prependAll(List.of(0, 2)));
+        assertNotEquals(List.of(1, 2), List.of(1, 2, 3));
+        assertNotEquals(List.of(1, 2), List.nil());
+        assertEquals(List.nil(), List.of());
+    }
+
+    @Test
+    void testEqualsAfterHashing() {
+        List<Integer> left = List.of(1, 2, 3);
+        List<Integer> right = List.of(1, 2, 4);
+        left.hashCode();
+        right.hashCode();
+        assertNotEquals(left, right);
+        assertEquals(left, List.of(1, 2, 3));
+    }
+
+    @Test
+    void testSorted() {
+        assertEquals(List.of(1, 2, 3, 4, 5), List.of(4, 2, 5, 1, 3).sorted(Comparator.naturalOrder()));
+        assertEquals(List.of(5, 4, 3, 2, 1), List.of(4, 2, 5, 1, 3).sorted(Comparator.reverseOrder()));
+        assertEquals(List.empty(), List.<Integer>empty().sorted(Comparator.naturalOrder()));
+    }
+
+    @Test
+    void testSortedReturnsSameListWhenAlreadySorted() {
+        List<Integer> list = List.of(1, 2, 2, 3);
+        assertSame(list, list.sorted(Comparator.naturalOrder()));
+    }
+
+    @Test
+    void testSortByIsStable() {
+        List<String> words = List.of("bb", "a", "cc", "d", "eee");
+        assertEquals(List.of("a", "d", "bb", "cc", "eee"), words.sortBy(String::length));
+    }
+
+    @Test
+    void testParallelSorted() {
+        java.util.List<Integer> values = new java.util.ArrayList<>();
+        java.util.Random random = new java.util.Random(3);
+        for (int i = 0; i < 50_000; i++) {
+            values.add(random.nextInt(1_000));
+        }
+        List<Integer> list = List.ofAll(values);
+        values.sort(null);
+        assertEquals(List.ofAll(values), list.parallelSorted(Comparator.naturalOrder()));
+    }
+
+    @Test
+    void testMergeSorted() {
+        List<Integer> merged = List.mergeSorted(
+            Comparator.naturalOrder(), List.of(1, 4, 7), List.of(2, 5, 8, 9, 10), List.empty(), List.of(3, 6)
+        );
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), merged);
+        assertEquals(List.empty(), List.mergeSorted(Comparator.<Integer>naturalOrder()));
+    }
+
+    @Test
+    void testMergeSortedIsStableAndSharesLastRun() {
+        List<Tuple2<Integer, String>> left = List.of(Tuple.of(1, "l"), Tuple.of(2, "l"));
+        List<Tuple2<Integer, String>> right = List.of(Tuple.of(1, "r"), Tuple.of(5, "r"), Tuple.of(6, "r"));
+        List<Tuple2<Integer, String>> merged = List.mergeSorted(Comparator.comparing(Tuple2::_1), left, right);
+        assertEquals(List.of(Tuple.of(1, "l"), Tuple.of(1, "r"), Tuple.of(2, "l"), Tuple.of(5, "r"), Tuple.of(6, "r")), merged);
+        assertSame(right.tail(), merged.tail().tail().tail());
+    }
+
     @Test
     void testGetFirst() {
         List<Integer> list = List.of(1, 2, 3, 4, 5);
@@ -242,6 +417,29 @@ class ListTest {
         assertArrayEquals(new Integer[]{1, 2, 3}, list.stream().toArray());
     }
 
+    @Test
+    void testSpliteratorIsSizedAndSplits() {
+        List<Integer> list = List.of(1, 2, 3, 4, 5);
+        Spliterator<Integer> right = list.spliterator();
+        assertTrue(right.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertEquals(5, right.getExactSizeIfKnown());
+        Spliterator<Integer> left = right.trySplit();
+        assertNotNull(left);
+        assertEquals(2, left.getExactSizeIfKnown());
+        assertEquals(3, right.getExactSizeIfKnown());
+        java.util.List<Integer> values = new ArrayList<>();
+        left.forEachRemaining(values::add);
+        right.forEachRemaining(values::add);
+        assertEquals(java.util.List.of(1, 2, 3, 4, 5), values);
+    }
+
+    @Test
+    void testParallelStream() {
+        List<Integer> list = List.ofAll(IntStream.range(0, 100_000).boxed().toList());
+        assertEquals(list.asJava(), list.stream().parallel().collect(Collectors.toList()));
+        assertEquals(4_999_950_000L, list.stream().parallel().mapToLong(Integer::longValue).sum());
+    }
+
     @Test
     void testApplyReturnElementIfIndexIsCorrect() {
         List<Integer> list = new Cons<>(1, new Cons<>(2, new Cons<>(3, nil())));
@@ -507,6 +705,27 @@ class ListTest {
         assertEquals(List.of(1, 2, 3, 4, 5, 6), first.appendAll(second));
     }
 
+    @Test
+    void testAppendAllSharesArgument() {
+        List<Integer> list = List.of(1, 2);
+        List<Integer> other = List.of(3, 4, 5);
+        List<Integer> result = list.appendAll(other);
+        assertEquals(List.of(1, 2, 3, 4, 5), result);
+        assertSame(other, result.tail().tail());
+        assertSame(other, List.<Integer>nil().appendAll(other));
+        assertSame(list, list.appendAll(List.nil()));
+    }
+
+    @Test
+    void testPrependAllSharesReceiver() {
+        List<Integer> list = List.of(3, 4, 5);
+        List<Integer> result = list.prependAll(List.of(1, 2));
+        assertEquals(List.of(1, 2, 3, 4, 5), result);
+        assertEquals(5, result.size());
+        assertSame(list, result.tail().tail());
+        assertEquals(List.of(1, 2, 3, 4, 5), list.prependAll(java.util.List.of(1, 2)));
+    }
+
     @Test
     void testPrependNil() {
         List<Integer> list = List.nil();
@@ -594,6 +813,13 @@ class ListTest {
         assertEquals(list, list.takeRight(10));
     }
 
+    @Test
+    void testTakeRightZero() {
+        List<Integer> list = List.of(1, 2, 3, 4, 5);
+        assertEquals(nil(), list.takeRight(0));
+        assertEquals(nil(), list.takeRight(-1));
+    }
+
     @Test
     void testTakeRightWhileNil() {
         assertEquals(nil(), List.<Integer>nil().takeRightWhile(v -> v >= 3));
@@ -727,6 +953,24 @@ class ListTest {
         assertEquals(List.of(2, 2, 4), list.filterIndexed((i, v) -> v % 2 == 0 && i % 2 == 0));
     }
 
+    @Test
+    void testFilterIndexedSharesKeptTail() {
+        List<Integer> list = List.of(1, 2, 3, 4, 5);
+        List<Integer> result = list.filter(v -> v != 2);
+        assertEquals(List.of(1, 3, 4, 5), result);
+        assertSame(list.tail().tail(), result.tail());
+    }
+
+    @Test
+    void testWithSharesTail() {
+        List<Integer> list = List.of(1, 2, 3, 4, 5);
+        List<Integer> result = list.with(1, 10);
+        assertEquals(List.of(1, 10, 3, 4, 5), result);
+        assertEquals(5, result.size());
+        assertEquals(4, result.tail().size());
+        assertSame(list.tail().tail(), result.tail().tail());
+    }
+
     @Test
     void testFilterNot() {
         List<Integer> list = List.of(1, 3, 4, 5, 6, 8);
@@ -0,0 +1,106 @@
+package com.vssekorin.sosna;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueueTest {
+
+    @Test
+    void testEmpty() {
+        Queue<Integer> queue = Queue.empty();
+        assertTrue(queue.isEmpty());
+        assertThrowsExactly(NoSuchElementException.class, queue::head);
+        assertThrowsExactly(UnsupportedOperationException.class, queue::tail);
+    }
+
+    @Test
+    void testFifo() {
+        Queue<Integer> queue = Queue.<Integer>empty().append(1).append(2).append(3);
+        assertEquals(1, queue.head());
+        assertEquals(2, queue.tail().head());
+        assertEquals(3, queue.tail().tail().head());
+        assertTrue(queue.tail().tail().tail().isEmpty());
+        assertEquals(3, queue.last());
+    }
+
+    @Test
+    void testIsPersistent() {
+        Queue<Integer> queue = Queue.of(1, 2);
+        Queue<Integer> appended = queue.append(3);
+        assertEquals(Queue.of(1, 2), queue);
+        assertEquals(Queue.of(1, 2, 3), appended);
+        assertEquals(Queue.of(0, 1, 2), queue.prepend(0));
+    }
+
+    @Test
+    void testManyAppends() {
+        Queue<Integer> queue = Queue.empty();
+        for (int i = 0; i < 100_000; i++) {
+            queue = queue.append(i);
+        }
+        assertEquals(100_000, queue.size());
+        int expected = 0;
+        for (Queue<Integer> cur = queue; cur.nonEmpty(); cur = cur.tail()) {
+            assertEquals(expected++, cur.head());
+        }
+    }
+
+    @Test
+    void testReusedVersionsStayCheap() {
+        Queue<Integer> queue = Queue.of(-1);
+        for (int i = 0; i < 200_000; i++) {
+            queue = queue.append(i);
+        }
+        Queue<Integer> shared = queue.tail();
+        for (int i = 0; i < 200_000; i++) {
+            Queue<Integer> tail = shared.tail();
+            assertEquals(1, tail.head());
+            assertEquals(199_999, tail.size());
+        }
+        int expected = 0;
+        for (Queue<Integer> cur = shared; cur.nonEmpty(); cur = cur.tail()) {
+            assertEquals(expected++, cur.head());
+        }
+        assertEquals(200_000, expected);
+        assertEquals(0, shared.head());
+    }
+
+    @Test
+    void testIndexedAccess() {
+        Queue<Integer> queue = Queue.of(1, 2).appendAll(List.of(3, 4, 5));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i + 1, queue.get(i));
+        }
+        assertEquals(Queue.of(1, 2, 6, 3, 4, 5), queue.insert(2, 6));
+        assertEquals(Queue.of(1, 2, 3, 6, 4, 5), queue.insert(3, 6));
+        assertEquals(Queue.of(1, 2, 3, 4, 5, 6), queue.insert(5, 6));
+        assertEquals(Queue.of(1, 2, 3, 6, 5), queue.with(3, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> queue.get(5));
+    }
+
+    @Test
+    void testReverse() {
+        Queue<Integer> queue = Queue.of(1, 2).appendAll(List.of(3, 4));
+        assertEquals(Queue.of(4, 3, 2, 1), queue.reverse());
+    }
+
+    @Test
+    void testFolds() {
+        Queue<String> queue = Queue.of("a", "b").append("c").append("d");
+        assertEquals("abcd", queue.fold(Monoid.Str.concat));
+        assertEquals("abcd", queue.foldRight("", (v, acc) -> v + acc));
+        assertEquals(List.of("a", "b", "c", "d"), queue.toList());
+        assertEquals(java.util.List.of("a", "b", "c", "d"), queue.asJava());
+    }
+
+    @Test
+    void testTransformations() {
+        Queue<Integer> queue = Queue.of(1, 2).appendAll(List.of(3, 4));
+        assertEquals(Queue.of(2, 4, 6, 8), queue.map(v -> v * 2));
+        assertEquals(Queue.of(2, 4), queue.filter(v -> v % 2 == 0));
+        assertEquals(Queue.of(3, 4), queue.takeRight(2));
+    }
+}
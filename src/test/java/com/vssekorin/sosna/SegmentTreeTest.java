@@ -0,0 +1,52 @@
+package com.vssekorin.sosna;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentTreeTest {
+
+    @Test
+    void testRangeFoldMatchesNaiveFold() {
+        java.util.List<Integer> values = new java.util.ArrayList<>();
+        for (int i = 0; i < 37; i++) {
+            values.add(i * 7 % 11);
+        }
+        SegmentTree<Integer> tree = SegmentTree.ofAll(Monoid.Int.sum, values);
+        assertEquals(37, tree.size());
+        for (int from = 0; from <= 37; from++) {
+            for (int to = from; to <= 37; to++) {
+                int expected = 0;
+                for (int i = from; i < to; i++) {
+                    expected += values.get(i);
+                }
+                assertEquals(expected, tree.rangeFold(from, to));
+            }
+        }
+        assertEquals(tree.rangeFold(0, 37), tree.fold());
+    }
+
+    @Test
+    void testWithIsPersistent() {
+        SegmentTree<Integer> tree = SegmentTree.of(Monoid.Int.max, 3, 9, 4, 1, 5);
+        SegmentTree<Integer> updated = tree.with(1, 0);
+        assertEquals(9, tree.rangeFold(0, 3));
+        assertEquals(4, updated.rangeFold(0, 3));
+        assertEquals(List.of(3, 9, 4, 1, 5), tree.toList());
+        assertEquals(List.of(3, 0, 4, 1, 5), updated.toList());
+        assertEquals(0, updated.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.with(5, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.rangeFold(3, 2));
+    }
+
+    @Test
+    void testKeepsOrderAndEmpty() {
+        SegmentTree<String> tree = SegmentTree.of(Monoid.Str.concat, "a", "b", "c", "d", "e");
+        assertEquals("bcd", tree.rangeFold(1, 4));
+        assertEquals("", tree.rangeFold(2, 2));
+        assertEquals("edcba", tree.foldRight("", (s, acc) -> acc + s));
+        assertEquals("", SegmentTree.empty(Monoid.Str.concat).fold());
+        assertEquals(SegmentTree.of(Monoid.Str.concat, "a", "b"), SegmentTree.ofAll(Monoid.Str.concat, List.of("a", "b")));
+        assertEquals(List.of(1, 1, 1, 1, 1), tree.map(Monoid.Int.sum, String::length).toList());
+    }
+}
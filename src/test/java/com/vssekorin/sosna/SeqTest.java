@@ -2,7 +2,11 @@ package com.vssekorin.sosna;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -23,4 +27,151 @@ class SeqTest {
         list.orRun(() -> i.addAndGet(6));
         assertEquals(10, i.get());
     }
+
+    @Test
+    void testParallelFold() {
+        List<Integer> list = List.ofAll(IntStream.rangeClosed(1, 100_000).boxed().toList());
+        assertEquals(list.fold(Monoid.Int.sum), list.parallelFold(Monoid.Int.sum));
+        assertEquals(0, List.<Integer>empty().parallelFold(Monoid.Int.sum));
+    }
+
+    @Test
+    void testParallelFoldKeepsOrder() {
+        Vector<String> vector = Vector.ofAll(IntStream.range(0, 50_000).mapToObj(i -> i % 10 + "").toList());
+        assertEquals(vector.fold(Monoid.Str.concat), vector.parallelFold(Monoid.Str.concat));
+    }
+
+    @Test
+    void testParallelReduceWithExecutor() {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Integer> list = List.ofAll(IntStream.rangeClosed(1, 100_000).boxed().toList());
+            assertEquals(100_000, list.parallelReduce(Math::max, executor));
+            assertEquals(list.reduce(Semigroup.Int.sum), list.parallelReduce(Semigroup.Int.sum, executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelReduceEmpty() {
+        assertThrows(NoSuchElementException.class, () -> List.<Integer>empty().parallelReduce(Semigroup.Int.sum));
+    }
+
+    @Test
+    void testFoldMap() {
+        List<String> words = List.of("a", "bb", "ccc");
+        assertEquals(6, words.foldMap(String::length, Monoid.Int.sum));
+        assertEquals(0, List.<String>empty().foldMap(String::length, Monoid.Int.sum));
+        assertEquals(3, HashSet.of("a", "bb", "ccc").foldMap(String::length, Monoid.Int.max));
+    }
+
+    @Test
+    void testProductMonoidAggregatesInOnePass() {
+        Monoid<Tuple3<Integer, Integer, Integer>> countSumMax = Monoid.product(Monoid.Int.sum, Monoid.Int.sum, Monoid.Int.max);
+        List<Integer> list = List.of(3, 9, 4);
+        AtomicInteger calls = new AtomicInteger();
+        Tuple3<Integer, Integer, Integer> stats = list.foldMap(v -> {
+            calls.incrementAndGet();
+            return Tuple.of(1, v, v);
+        }, countSumMax);
+        assertEquals(Tuple.of(3, 16, 9), stats);
+        assertEquals(3, calls.get());
+        assertEquals(Tuple.of(0, 0, Integer.MIN_VALUE), List.<Integer>empty().foldMap(v -> Tuple.of(1, v, v), countSumMax));
+    }
+
+    @Test
+    void testProductMonoidWithParallelFold() {
+        Monoid<Tuple2<Integer, Integer>> minMax = Monoid.product(Monoid.Int.min, Monoid.Int.max);
+        List<Integer> list = List.ofAll(IntStream.rangeClosed(1, 100_000).boxed().toList());
+        assertEquals(Tuple.of(1, 100_000), list.parallelFoldMap(v -> Tuple.of(v, v), minMax));
+        assertEquals(list.foldMap(v -> Tuple.of(v, v), minMax), list.parallelFoldMap(v -> Tuple.of(v, v), minMax));
+        Semigroup<Tuple2<Integer, Integer>> sumMax = Semigroup.product(Semigroup.Int.sum, Semigroup.Int.max);
+        assertEquals(Tuple.of(6, 3), List.of(Tuple.of(1, 1), Tuple.of(2, 2), Tuple.of(3, 3)).parallelReduce(sumMax));
+    }
+
+    @Test
+    void testStringConcatAccumulates() {
+        List<String> fragments = List.ofAll(IntStream.range(0, 10_000).mapToObj(i -> i % 10 + "").toList());
+        String expected = String.join("", fragments.asJava());
+        assertEquals(expected, fragments.fold(Monoid.Str.concat));
+        assertEquals(expected, fragments.reduce(Semigroup.Str.concat));
+        assertEquals(expected, fragments.parallelFold(Monoid.Str.concat));
+        assertEquals("", List.<String>empty().fold(Monoid.Str.concat));
+        assertThrows(NoSuchElementException.class, () -> List.<String>empty().reduce(Semigroup.Str.concat));
+        assertEquals("abc", List.of(1, 2, 3).foldMap(i -> String.valueOf((char) ('a' + i - 1)), Monoid.Str.concat));
+    }
+
+    @Test
+    void testListConcatAccumulates() {
+        List<Integer> last = List.of(5, 6);
+        List<List<Integer>> lists = List.of(List.of(1, 2), List.empty(), List.of(3, 4), last, List.empty());
+        List<Integer> concat = lists.fold(Monoid.Lst.concat());
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), concat);
+        assertSame(last, concat.tail().tail().tail().tail());
+        assertEquals(6, concat.size());
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), lists.reduce(Semigroup.Lst.concat()));
+        assertEquals(List.empty(), List.<List<Integer>>empty().fold(Monoid.Lst.concat()));
+    }
+
+    @Test
+    void testSlidingFold() {
+        List<Integer> list = List.of(1, 2, 3, 4, 5);
+        assertEquals(Stream.of(6, 9, 12), list.slidingFold(3, Monoid.Int.sum));
+        assertEquals(Stream.of(3, 4, 5), list.slidingReduce(3, Semigroup.Int.max));
+        assertEquals(Stream.of(3), List.of(1, 2).slidingFold(5, Monoid.Int.sum));
+        assertEquals(Stream.empty(), List.<Integer>empty().slidingFold(2, Monoid.Int.sum));
+        assertEquals(Stream.of("ab", "bc", "cd"), Vector.of("a", "b", "c", "d").slidingReduce(2, Semigroup.Str.concat));
+    }
+
+    @Test
+    void testSlidingFoldIsLazy() {
+        Stream<Integer> naturals = Stream.iterate(1, i -> i + 1);
+        assertEquals(Stream.of(3, 5, 7), naturals.slidingFold(2, Monoid.Int.sum).take(3));
+    }
+
+    @Test
+    void testScanLeftAndScanRight() {
+        assertEquals(List.of(0, 1, 3, 6), List.of(1, 2, 3).scanLeft(0, Integer::sum));
+        assertEquals(List.of(6, 5, 3, 0), List.of(1, 2, 3).scanRight(0, Integer::sum));
+        assertEquals(Vector.of("", "a", "ab"), Vector.of("a", "b").scanLeft("", String::concat));
+        assertEquals(Vector.of("ab", "b", ""), Vector.of("a", "b").scanRight("", String::concat));
+        assertEquals(Queue.of(0, 1, 3), Queue.of(1, 2).scanLeft(0, Integer::sum));
+        assertEquals(Stream.of(3, 2, 0), Stream.of(1, 2).scanRight(0, Integer::sum));
+        assertEquals(List.of(0), List.<Integer>empty().scanLeft(0, Integer::sum));
+    }
+
+    @Test
+    void testScanLeftIsLazyOnStream() {
+        Stream<Integer> naturals = Stream.iterate(1, i -> i + 1);
+        assertEquals(Stream.of(0, 1, 3, 6), naturals.scanLeft(0, Integer::sum).take(4));
+    }
+
+    @Test
+    void testParallelScanMatchesScanLeft() {
+        List<Integer> list = List.ofAll(IntStream.range(0, 100_000).map(i -> i % 7 - 3).boxed().toList());
+        assertEquals(list.scanLeft(0, Integer::sum), list.parallelScan(Monoid.Int.sum));
+        Vector<String> vector = Vector.ofAll(IntStream.range(0, 20_000).mapToObj(i -> i % 10 + "").toList());
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            assertEquals(vector.scanLeft(0, (acc, s) -> acc + s.length()), vector.map(String::length).parallelScan(Monoid.Int.sum, executor));
+            assertEquals(vector.scanLeft(Integer.MIN_VALUE, (acc, s) -> Math.max(acc, Integer.parseInt(s))),
+                vector.map(Integer::parseInt).parallelScan(Monoid.Int.max, executor));
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(List.of(0), List.<Integer>empty().parallelScan(Monoid.Int.sum));
+        assertEquals(Queue.of(0, 1, 3), Queue.of(1, 2).parallelScan(Monoid.Int.sum));
+    }
+
+    @Test
+    void testContainsAllAndAnyOnInfiniteReceiver() {
+        Stream<Integer> naturals = Stream.iterate(0, i -> i + 1);
+        List<Integer> wanted = List.ofAll(IntStream.range(0, 20).map(i -> i * 100).boxed().toList());
+        List<Integer> mostlyNegative = List.ofAll(IntStream.range(0, 20).map(i -> i == 19 ? 5_000 : -i - 1).boxed().toList());
+        assertTrue(naturals.containsAll(wanted));
+        assertTrue(naturals.containsAny(mostlyNegative));
+        assertFalse(naturals.take(1_000).containsAll(wanted));
+        assertFalse(naturals.take(1_000).containsAny(mostlyNegative));
+    }
 }
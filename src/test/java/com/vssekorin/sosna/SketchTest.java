@@ -0,0 +1,114 @@
+package com.vssekorin.sosna;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SketchTest {
+
+    private static List<Integer> range(int from, int to) {
+        return List.ofAll(IntStream.range(from, to).boxed().toList());
+    }
+
+    @Test
+    void testHyperLogLogEstimate() {
+        Monoid<HyperLogLog> hll = Monoid.Sketch.hyperLogLog(14);
+        HyperLogLog sketch = range(0, 100_000).foldMap(HyperLogLog::of, hll);
+        assertEquals(100_000, sketch.estimate(), 100_000 * 0.03);
+        assertEquals(0, hll.empty().estimate());
+        assertEquals(1, HyperLogLog.of("a").estimate());
+    }
+
+    @Test
+    void testHyperLogLogIgnoresDuplicatesAndMerges() {
+        Monoid<HyperLogLog> hll = Monoid.Sketch.hyperLogLog(12);
+        HyperLogLog left = range(0, 20_000).foldMap(i -> HyperLogLog.of(i % 1_000), hll);
+        HyperLogLog right = range(500, 1_500).foldMap(HyperLogLog::of, hll);
+        assertEquals(1_000, left.estimate(), 50);
+        assertEquals(1_500, hll.combine(left, right).estimate(), 75);
+        assertThrows(IllegalArgumentException.class, () -> Monoid.Sketch.hyperLogLog(12).combine(left, Monoid.Sketch.hyperLogLog(10).empty()));
+    }
+
+    @Test
+    void testHyperLogLogParallelFold() {
+        Monoid<HyperLogLog> hll = Monoid.Sketch.hyperLogLog(12);
+        List<Integer> values = range(0, 50_000);
+        assertEquals(values.foldMap(HyperLogLog::of, hll).estimate(), values.parallelFoldMap(HyperLogLog::of, hll).estimate());
+    }
+
+    @Test
+    void testQuantiles() {
+        Monoid<QuantileSketch> quantiles = Monoid.Sketch.quantiles(200);
+        List<Integer> values = range(0, 100_000);
+        QuantileSketch sketch = values.foldMap(v -> QuantileSketch.of(v), quantiles);
+        assertEquals(100_000, sketch.count());
+        assertEquals(50_000, sketch.quantile(0.5), 100_000 * 0.02);
+        assertEquals(99_000, sketch.quantile(0.99), 100_000 * 0.02);
+        assertEquals(0, sketch.quantile(0), 100_000 * 0.02);
+        assertThrows(java.util.NoSuchElementException.class, () -> quantiles.empty().quantile(0.5));
+    }
+
+    @Test
+    void testQuantilesMerge() {
+        Monoid<QuantileSketch> quantiles = Monoid.Sketch.quantiles(128);
+        QuantileSketch low = range(0, 50_000).foldMap(v -> QuantileSketch.of(v), quantiles);
+        QuantileSketch high = range(50_000, 100_000).foldMap(v -> QuantileSketch.of(v), quantiles);
+        QuantileSketch merged = quantiles.combine(low, high);
+        assertEquals(100_000, merged.count());
+        assertEquals(25_000, merged.quantile(0.25), 100_000 * 0.02);
+        assertEquals(75_000, merged.quantile(0.75), 100_000 * 0.02);
+    }
+
+    @Test
+    void testTopK() {
+        Monoid<TopK<Integer>> top = Monoid.Sketch.topK(3, Comparator.naturalOrder());
+        List<Integer> shuffled = List.of(5, 1, 9, 7, 3, 8, 2);
+        assertEquals(List.of(9, 8, 7), shuffled.foldMap(TopK::of, top).toList());
+        TopK<Integer> merged = top.combine(List.of(1, 2).foldMap(TopK::of, top), List.of(10, 4).foldMap(TopK::of, top));
+        assertEquals(List.of(10, 4, 2), merged.toList());
+        assertEquals(0, top.empty().size());
+    }
+
+    @Test
+    void testBloomFilter() {
+        Monoid<BloomFilter> bloom = Monoid.Sketch.bloomFilter(1 << 16, 5);
+        BloomFilter filter = range(0, 5_000).foldMap(BloomFilter::of, bloom);
+        for (int i = 0; i < 5_000; i++) {
+            assertTrue(filter.mightContain(i));
+        }
+        Random random = new Random(1);
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("x" + random.nextInt())) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 100, "false positives: " + falsePositives);
+        BloomFilter merged = bloom.combine(filter, BloomFilter.of("extra"));
+        assertTrue(merged.mightContain("extra"));
+        assertTrue(BloomFilter.of("a").mightContain("a"));
+        assertFalse(bloom.empty().mightContain("a"));
+    }
+
+    @Test
+    void testSketchesDistinguishEqualHashCodes() {
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        Monoid<HyperLogLog> hll = Monoid.Sketch.hyperLogLog(14);
+        assertEquals(2, hll.combine(HyperLogLog.of("Aa"), HyperLogLog.of("BB")).estimate());
+        assertFalse(BloomFilter.of("Aa").mightContain("BB"));
+        List<String> colliding = List.ofAll(IntStream.range(0, 1 << 13).mapToObj(bits -> {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < 13; i++) {
+                builder.append((bits >>> i & 1) == 0 ? "Aa" : "BB");
+            }
+            return builder.toString();
+        }).toList());
+        assertEquals(1, colliding.map(String::hashCode).distinct().size());
+        assertEquals(8_192, colliding.foldMap(HyperLogLog::of, hll).estimate(), 8_192 * 0.03);
+        assertEquals(2, hll.combine(HyperLogLog.of(1L), HyperLogLog.of(1L << 32 | 1L)).estimate());
+    }
+}
@@ -0,0 +1,137 @@
+package com.vssekorin.sosna;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamTest {
+
+    @Test
+    void testEmpty() {
+        Stream<Integer> stream = Stream.empty();
+        assertTrue(stream.isEmpty());
+        assertEquals(0, stream.size());
+        assertThrowsExactly(NoSuchElementException.class, stream::head);
+    }
+
+    @Test
+    void testOf() {
+        Stream<Integer> stream = Stream.of(1, 2, 3);
+        assertEquals(3, stream.size());
+        assertEquals(List.of(1, 2, 3), stream.toList());
+    }
+
+    @Test
+    void testInfiniteIsLazy() {
+        Stream<Integer> naturals = Stream.iterate(0, i -> i + 1);
+        assertEquals(List.of(0, 2, 4, 6, 8), naturals.filter(i -> i % 2 == 0).take(5).toList());
+        assertEquals(List.of(0, 1, 2), naturals.takeWhile(i -> i < 3).toList());
+    }
+
+    @Test
+    void testElementByElement() {
+        AtomicInteger calls = new AtomicInteger();
+        Stream<Integer> stream = Stream.of(1, 2, 3, 4, 5).map(v -> {
+            calls.incrementAndGet();
+            return v * 10;
+        });
+        assertEquals(1, calls.get());
+        assertEquals(20, stream.get(1));
+        assertEquals(2, calls.get());
+        stream.get(1);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testLongChainIsStackSafe() {
+        Stream<Integer> stream = Stream.iterate(0, i -> i + 1)
+            .map(i -> i + 1)
+            .filter(i -> i > 900_000 || i % 2 == 0)
+            .takeWhile(i -> i <= 1_000_000);
+        assertEquals(550_000, stream.size());
+        assertEquals(1_000_000, stream.last());
+    }
+
+    @Test
+    void testLongRejectedRunIsStackSafe() {
+        Stream<Integer> stream = Stream.iterate(0, i -> i + 1).filter(i -> i >= 1_000_000);
+        assertEquals(1_000_000, stream.head());
+    }
+
+    @Test
+    void testOfAllIterator() {
+        Stream<Integer> stream = Stream.ofAll(java.util.List.of(1, 2, 3));
+        assertEquals(Stream.of(1, 2, 3), stream);
+        assertEquals(Stream.of(1, 2, 3), stream);
+    }
+
+    @Test
+    void testAppendPrepend() {
+        assertEquals(Stream.of(0, 1, 2, 3, 4), Stream.of(1, 2).prepend(0).appendAll(List.of(3, 4)));
+        assertEquals(Stream.of(1, 2, 3), Stream.<Integer>empty().append(1).append(2).append(3));
+        assertEquals(Stream.of(-1, 0, 1), Stream.of(1).prependAll(List.of(-1, 0)));
+    }
+
+    @Test
+    void testLongAppendChainIsStackSafe() {
+        Stream<Integer> stream = Stream.empty();
+        for (int i = 0; i < 100_000; i++) {
+            stream = stream.append(i);
+        }
+        assertEquals(100_000, stream.size());
+        assertEquals(99_999, stream.last());
+        assertEquals(50_000, stream.get(50_000));
+        Stream<Integer> prepended = Stream.empty();
+        for (int i = 0; i < 100_000; i++) {
+            prepended = prepended.prependAll(List.of(i));
+        }
+        assertEquals(100_000, prepended.size());
+        assertEquals(99_999, prepended.head());
+    }
+
+    @Test
+    void testAppendIsLazy() {
+        AtomicInteger calls = new AtomicInteger();
+        Stream<Integer> stream = Stream.iterate(0, i -> calls.incrementAndGet()).append(-1).append(-2);
+        assertEquals(0, stream.head());
+        assertEquals(0, calls.get());
+        assertEquals(Stream.of(0, -1, -2), Stream.of(0).append(-1).append(-2));
+    }
+
+    @Test
+    void testInsertWith() {
+        assertEquals(Stream.of(1, 2, 6, 3), Stream.of(1, 2, 3).insert(2, 6));
+        assertEquals(Stream.of(1, 6, 3), Stream.of(1, 2, 3).with(1, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> Stream.of(1, 2, 3).insert(4, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> Stream.of(1, 2, 3).with(3, 6));
+    }
+
+    @Test
+    void testZip() {
+        Stream<Tuple2<Integer, String>> zipped = Stream.iterate(1, i -> i + 1).zip(List.of("a", "b"));
+        assertEquals(Stream.of(Tuple.of(1, "a"), Tuple.of(2, "b")), zipped);
+    }
+
+    @Test
+    void testFolds() {
+        Stream<Integer> stream = Stream.iterate(1, i -> i + 1).take(100);
+        assertEquals(5050, stream.fold(Monoid.Int.sum));
+        assertEquals(5050, stream.reduce(Semigroup.Int.sum));
+        assertEquals("123", Stream.of(1, 2, 3).foldRight("", (v, acc) -> v + acc));
+    }
+
+    @Test
+    void testTakeRight() {
+        assertEquals(Stream.of(4, 5), Stream.of(1, 2, 3, 4, 5).takeRight(2));
+        assertEquals(Stream.of(4, 5), Stream.of(1, 2, 3, 4, 5).takeRightWhile(v -> v > 3));
+    }
+
+    @Test
+    void testDistinctIsLazy() {
+        Stream<Integer> distinct = Stream.iterate(0, i -> i + 1).map(i -> i / 3).distinct();
+        assertEquals(Stream.of(0, 1, 2, 3), distinct.take(4));
+    }
+}
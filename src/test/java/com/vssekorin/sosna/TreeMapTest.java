@@ -0,0 +1,138 @@
+package com.vssekorin.sosna;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TreeMapTest {
+
+    @Test
+    void testEmpty() {
+        TreeMap<Integer, String> map = TreeMap.empty();
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.size());
+        assertEquals(Optional.empty(), map.get(1));
+        assertEquals(Optional.empty(), map.min());
+        assertFalse(map.iterator().hasNext());
+    }
+
+    @Test
+    void testPutGetIsSorted() {
+        TreeMap<Integer, String> map = TreeMap.<Integer, String>empty().put(3, "c").put(1, "a").put(2, "b");
+        assertEquals(3, map.size());
+        assertEquals("b", map.getOrNull(2));
+        assertEquals(List.of(1, 2, 3), map.keys());
+        assertEquals(List.of("a", "b", "c"), map.values());
+        assertEquals(Optional.of(Tuple.of(1, "a")), map.min());
+        assertEquals(Optional.of(Tuple.of(3, "c")), map.max());
+    }
+
+    @Test
+    void testIsPersistent() {
+        TreeMap<Integer, String> map = TreeMap.of(1, "a");
+        TreeMap<Integer, String> updated = map.put(1, "b").put(2, "c");
+        assertEquals("a", map.getOrNull(1));
+        assertEquals(1, map.size());
+        assertEquals("b", updated.getOrNull(1));
+        assertSame(map, map.remove(5));
+    }
+
+    @Test
+    void testComparator() {
+        TreeMap<String, Integer> map = TreeMap.ofEntries(
+            Comparator.<String>reverseOrder(), Tuple.of("a", 1), Tuple.of("c", 3), Tuple.of("b", 2)
+        );
+        assertEquals(List.of("c", "b", "a"), map.keys());
+        assertEquals(Optional.of(Tuple.of("c", 3)), map.floor("bb"));
+    }
+
+    @Test
+    void testFloorAndCeiling() {
+        TreeMap<Integer, Integer> map = TreeMap.ofAll(Comparator.naturalOrder(), List.of(Tuple.of(10, 1), Tuple.of(20, 2), Tuple.of(30, 3)));
+        assertEquals(Optional.of(Tuple.of(20, 2)), map.floor(25));
+        assertEquals(Optional.of(Tuple.of(20, 2)), map.floor(20));
+        assertEquals(Optional.empty(), map.floor(5));
+        assertEquals(Optional.of(Tuple.of(30, 3)), map.ceiling(25));
+        assertEquals(Optional.empty(), map.ceiling(35));
+    }
+
+    @Test
+    void testRangeIsView() {
+        TreeMap<Integer, Integer> map = TreeMap.empty();
+        for (int i = 0; i < 100; i++) {
+            map = map.put(i, i * i);
+        }
+        TreeMap<Integer, Integer> range = map.range(10, 20);
+        assertEquals(10, range.size());
+        assertEquals(List.of(10, 11, 12, 13, 14, 15, 16, 17, 18, 19), range.keys());
+        assertFalse(range.containsKey(20));
+        assertFalse(range.containsKey(9));
+        assertEquals(Optional.of(Tuple.of(19, 361)), range.floor(50));
+        assertEquals(Optional.of(Tuple.of(10, 100)), range.ceiling(0));
+        assertEquals(Optional.empty(), range.floor(5));
+        assertEquals(5, range.range(15, 40).size());
+        assertEquals(90, map.from(10).size());
+        assertEquals(10, map.until(10).size());
+        assertEquals(9, range.remove(17).size());
+        assertEquals(1, range.put(17, 1).getOrNull(17));
+        assertThrows(IllegalArgumentException.class, () -> range.put(25, 0));
+        assertTrue(map.range(50, 40).isEmpty());
+    }
+
+    @Test
+    void testFolds() {
+        TreeMap<String, Integer> map = TreeMap.<String, Integer>empty().put("b", 2).put("a", 1);
+        assertEquals("ab", map.foldLeft("", (acc, e) -> acc + e._1()));
+        assertEquals("ab", map.foldRight("", (e, acc) -> e._1() + acc));
+    }
+
+    @Test
+    void testAgainstJavaTreeMap() {
+        Random random = new Random(11);
+        NavigableMap<Integer, Integer> expected = new java.util.TreeMap<>();
+        TreeMap<Integer, Integer> map = TreeMap.empty();
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(3_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                expected.put(key, i);
+                map = map.put(key, i);
+            }
+            if (i % 1_000 == 0) {
+                assertEquals(expected, map.asJava());
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected, map.asJava());
+        for (int i = 0; i < 500; i++) {
+            int from = random.nextInt(3_000);
+            int to = from + random.nextInt(500);
+            Map<Integer, Integer> sub = expected.subMap(from, true, to, false);
+            TreeMap<Integer, Integer> range = map.range(from, to);
+            assertEquals(sub.size(), range.size());
+            assertEquals(sub, range.asJava());
+            int probe = random.nextInt(3_000);
+            Map.Entry<Integer, Integer> floor = expected.floorEntry(probe);
+            Map.Entry<Integer, Integer> ceiling = expected.ceilingEntry(probe);
+            assertEquals(floor == null ? null : floor.getKey(), map.floor(probe).map(Tuple2::_1).orElse(null));
+            assertEquals(ceiling == null ? null : ceiling.getKey(), map.ceiling(probe).map(Tuple2::_1).orElse(null));
+        }
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        TreeMap<Integer, String> left = TreeMap.<Integer, String>empty().put(1, "a").put(2, "b");
+        TreeMap<Integer, String> right = TreeMap.<Integer, String>empty().put(2, "b").put(1, "a");
+        assertEquals(left, right);
+        assertEquals(left.hashCode(), right.hashCode());
+        assertNotEquals(left, right.put(3, "c"));
+    }
+}
@@ -0,0 +1,48 @@
+package com.vssekorin.sosna;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TreeSetTest {
+
+    @Test
+    void testAddContainsSorted() {
+        TreeSet<Integer> set = TreeSet.of(5, 1, 3, 1);
+        assertEquals(3, set.size());
+        assertTrue(set.contains(3));
+        assertFalse(set.contains(2));
+        assertEquals(List.of(1, 3, 5), set.toList());
+        assertSame(set, set.add(3));
+    }
+
+    @Test
+    void testNavigation() {
+        TreeSet<Integer> set = TreeSet.of(10, 20, 30, 40);
+        assertEquals(Optional.of(20), set.floor(25));
+        assertEquals(Optional.of(30), set.ceiling(25));
+        assertEquals(Optional.of(10), set.min());
+        assertEquals(Optional.of(40), set.max());
+        assertEquals(List.of(20, 30), set.range(15, 40).toList());
+        assertEquals(List.of(30, 40), set.from(30).toList());
+        assertEquals(List.of(10), set.until(20).toList());
+    }
+
+    @Test
+    void testComparatorAndRemove() {
+        TreeSet<String> set = TreeSet.ofAll(Comparator.comparing(String::length), List.of("ccc", "a", "bb"));
+        assertEquals(List.of("a", "bb", "ccc"), set.toList());
+        assertEquals(List.of("a", "ccc"), set.remove("xx").toList());
+        assertEquals(6, set.foldLeft(0, (acc, s) -> acc + s.length()));
+    }
+
+    @Test
+    void testEquals() {
+        assertEquals(TreeSet.of(1, 2, 3), TreeSet.of(3, 2, 1));
+        assertEquals(TreeSet.of(1, 2, 3).hashCode(), TreeSet.of(3, 2, 1).hashCode());
+        assertNotEquals(TreeSet.of(1, 2), TreeSet.of(1, 2, 3));
+    }
+}
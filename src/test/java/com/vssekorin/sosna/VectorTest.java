@@ -0,0 +1,136 @@
+package com.vssekorin.sosna;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VectorTest {
+
+    private static Vector<Integer> range(int n) {
+        Vector<Integer> result = Vector.empty();
+        for (int i = 0; i < n; i++) {
+            result = result.append(i);
+        }
+        return result;
+    }
+
+    @Test
+    void testEmpty() {
+        Vector<Integer> vector = Vector.empty();
+        assertTrue(vector.isEmpty());
+        assertEquals(0, vector.size());
+        assertEquals(Optional.empty(), vector.headOpt());
+        assertThrowsExactly(NoSuchElementException.class, vector::head);
+    }
+
+    @Test
+    void testAppendAndGetAcrossLevels() {
+        for (int n : new int[]{1, 31, 32, 33, 1024, 1056, 1057, 40000}) {
+            Vector<Integer> vector = range(n);
+            assertEquals(n, vector.size());
+            for (int i = 0; i < n; i++) {
+                assertEquals(i, vector.get(i));
+            }
+        }
+    }
+
+    @Test
+    void testOfAllMatchesAppend() {
+        for (int n : new int[]{0, 1, 32, 33, 1025, 33000}) {
+            Vector<Integer> appended = range(n);
+            Vector<Integer> built = Vector.ofAll(appended.asJava());
+            assertEquals(appended, built);
+            assertEquals(appended.append(-1), built.append(-1));
+        }
+    }
+
+    @Test
+    void testGetOutOfBounds() {
+        Vector<Integer> vector = Vector.of(1, 2, 3);
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(-1));
+        assertEquals(Optional.empty(), vector.getOpt(3));
+        assertEquals(6, vector.getOr(3, 6));
+    }
+
+    @Test
+    void testWithIsPersistent() {
+        Vector<Integer> vector = range(2000);
+        Vector<Integer> updated = vector.with(5, -5).with(1990, -1990);
+        assertEquals(5, vector.get(5));
+        assertEquals(1990, vector.get(1990));
+        assertEquals(-5, updated.get(5));
+        assertEquals(-1990, updated.get(1990));
+        assertEquals(2000, updated.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.with(2000, 1));
+    }
+
+    @Test
+    void testOfCopiesTypedArray() {
+        String[] strings = new String[40];
+        java.util.Arrays.fill(strings, "x");
+        Vector<Object> vector = Vector.<Object>of((Object[]) strings);
+        assertEquals(1, vector.with(0, 1).get(0));
+        assertEquals(1, vector.with(39, 1).get(39));
+        strings[0] = "y";
+        assertEquals("x", vector.get(0));
+    }
+
+    @Test
+    void testInsert() {
+        assertEquals(Vector.of(1, 2, 6, 3), Vector.of(1, 2, 3).insert(2, 6));
+        assertEquals(Vector.of(6, 1, 2, 3), Vector.of(1, 2, 3).insert(0, 6));
+        assertEquals(Vector.of(1, 2, 3, 6), Vector.of(1, 2, 3).insert(3, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> Vector.of(1, 2, 3).insert(4, 6));
+    }
+
+    @Test
+    void testPrependAndTail() {
+        Vector<Integer> vector = Vector.of(2, 3).prepend(1);
+        assertEquals(Vector.of(1, 2, 3), vector);
+        assertEquals(Vector.of(2, 3), vector.tail());
+        assertEquals(Vector.of(0, 1, 2, 3), vector.prependAll(List.of(0)));
+    }
+
+    @Test
+    void testLastAndReverse() {
+        Vector<Integer> vector = range(100);
+        assertEquals(99, vector.last());
+        assertEquals(99, vector.reverse().head());
+        assertEquals(vector, vector.reverse().reverse());
+    }
+
+    @Test
+    void testTransformations() {
+        Vector<Integer> vector = Vector.of(1, 2, 3, 4, 5);
+        assertEquals(Vector.of(2, 4, 6, 8, 10), vector.map(v -> v * 2));
+        assertEquals(Vector.of(2, 4), vector.filter(v -> v % 2 == 0));
+        assertEquals(Vector.of(1, 2), vector.take(2));
+        assertEquals(Vector.of(4, 5), vector.takeRight(2));
+        assertEquals(Vector.of(1, 2), vector.takeWhile(v -> v < 3));
+        assertEquals(Vector.of(4, 5), vector.takeRightWhile(v -> v > 3));
+        assertEquals(Vector.of(1, 20, 3, 4, 5), vector.mapIfFirst(v -> v == 2, v -> v * 10));
+        assertEquals(Vector.of(Tuple.of(1, "a"), Tuple.of(2, "b")), vector.zip(List.of("a", "b")));
+    }
+
+    @Test
+    void testFolds() {
+        Vector<Integer> vector = range(100);
+        assertEquals(4950, vector.fold(Monoid.Int.sum));
+        assertEquals(4950, vector.reduce(Semigroup.Int.sum));
+        assertEquals("0123", Vector.of(0, 1, 2, 3).foldRight("", (v, acc) -> v + acc));
+    }
+
+    @Test
+    void testIterator() {
+        Vector<Integer> vector = range(1000);
+        int expected = 0;
+        for (Integer value : vector) {
+            assertEquals(expected++, value);
+        }
+        assertEquals(1000, expected);
+    }
+}
@@ -0,0 +1,48 @@
+package com.vssekorin.sosna;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WindowAggregatorTest {
+
+    @Test
+    void testRollingSum() {
+        WindowAggregator<Integer> window = new WindowAggregator<>(3, Semigroup.Int.sum);
+        assertEquals(1, window.push(1).get());
+        assertEquals(3, window.push(2).get());
+        assertEquals(6, window.push(3).get());
+        assertEquals(9, window.push(4).get());
+        assertEquals(12, window.push(5).get());
+        assertEquals(3, window.size());
+        assertTrue(window.isFull());
+    }
+
+    @Test
+    void testKeepsOrderForNonCommutativeSemigroup() {
+        WindowAggregator<String> window = new WindowAggregator<>(3, Semigroup.Str.concat);
+        StringBuilder expected = new StringBuilder();
+        for (char c = 'a'; c <= 'z'; c++) {
+            window.push(String.valueOf(c));
+            expected.append(c);
+            String all = expected.toString();
+            assertEquals(all.substring(Math.max(0, all.length() - 3)), window.get());
+        }
+    }
+
+    @Test
+    void testEvictAndEmpty() {
+        WindowAggregator<Integer> window = new WindowAggregator<>(4, Semigroup.Int.max);
+        assertEquals(Optional.empty(), window.getOpt());
+        assertThrows(NoSuchElementException.class, window::get);
+        assertThrows(NoSuchElementException.class, window::evict);
+        window.push(9).push(1).push(2);
+        assertEquals(9, window.get());
+        assertEquals(2, window.evict().get());
+        assertEquals(Integer.MIN_VALUE, window.evict().evict().getOr(Monoid.Int.max));
+        assertThrows(IllegalArgumentException.class, () -> new WindowAggregator<>(0, Semigroup.Int.sum));
+    }
+}